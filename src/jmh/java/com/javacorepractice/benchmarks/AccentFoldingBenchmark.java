@@ -0,0 +1,121 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.strings.AccentFolding;
+import com.javacorepractice.foundation.strings.FoldedKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ StringBasics.equalsIgnoreAccents (NFD + replaceAll + equalsIgnoreCase) vs AccentFolding.
+ equals*: 'size' name pairs, half of them equal ignoring accents/case, the rest differ
+ somewhere (often early, where the lazy comparison stops).
+ dedupe*: count distinct names ignoring accents — folded String keys vs one reused FoldedKey probe.
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccentFoldingBenchmark {
+
+    private static final String[] NAMES = {
+            "José García", "François Lefèvre", "Jürgen Müller", "Zoë Brontë", "Ángela Núñez",
+            "Søren Kierkegaard", "Łukasz Wójcik", "Chloé Dubois", "Björn Ångström", "Renée Zellweger",
+            "Σοφία Παπαδοπούλου", "Ξενοφών Ραφαηλίδης", "Đặng Thị Ngọc", "Nguyễn Văn Minh", "Ioana Ștefănescu"};
+
+    @Param({BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K})
+    public int size;
+
+    private String[] left;
+    private String[] right;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        left = new String[size];
+        right = new String[size];
+        for (int i = 0; i < size; i++) {
+            String name = NAMES[random.nextInt(NAMES.length)] + " " + random.nextInt(size / 10 + 1);
+            left[i] = name;
+            // equal ignoring accents and case, or another random name
+            right[i] = random.nextBoolean()
+                    ? stripAccents(name).toUpperCase()
+                    : NAMES[random.nextInt(NAMES.length)] + " " + random.nextInt(size / 10 + 1);
+        }
+    }
+
+    private static String stripAccents(String s) {
+        return Normalizer.normalize(s, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+    }
+
+    @Benchmark
+    public int equalsNormalizerChain() {
+        int equal = 0;
+        for (int i = 0; i < size; i++) {
+            if (stripAccents(left[i]).equalsIgnoreCase(stripAccents(right[i]))) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    @Benchmark
+    public int equalsAccentFolding() {
+        int equal = 0;
+        for (int i = 0; i < size; i++) {
+            if (AccentFolding.equalsIgnoreAccents(left[i], right[i])) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    @Benchmark
+    public int dedupeNormalizerChain() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String name : right) {
+            counts.merge(stripAccents(name).toLowerCase(), 1, Integer::sum);
+        }
+        return counts.size();
+    }
+
+    @Benchmark
+    public int dedupeFoldedString() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String name : right) {
+            counts.merge(AccentFolding.fold(name), 1, Integer::sum);
+        }
+        return counts.size();
+    }
+
+    @Benchmark
+    public int dedupeFoldedKeyProbe() {
+        Map<FoldedKey, int[]> counts = new HashMap<>();
+        FoldedKey probe = new FoldedKey();
+        for (String name : right) {
+            int[] count = counts.get(probe.set(name));
+            if (count == null) {
+                counts.put(probe.copy(), new int[]{1});
+            } else {
+                count[0]++;
+            }
+        }
+        return counts.size();
+    }
+}
@@ -0,0 +1,103 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.arrays.ArrayAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Linear and O(n log n) methods of ArrayAlgorithms, 10 .. 10^7 elements.
+// sortArray uses AdaptiveSort; the individual strategies are compared in SortStrategyBenchmark.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayAlgorithmsBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K,
+            BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    private final ArrayAlgorithms algorithms = new ArrayAlgorithms();
+    private int[] data;
+    private int target;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkSupport.randomInts(size, size);
+        target = data[size / 2];
+        BenchmarkSupport.muteConsole();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreConsole();
+    }
+
+    @Benchmark
+    public boolean isArrayNullOrEmpty() {
+        return algorithms.isArrayNullOrEmpty(data);
+    }
+
+    @Benchmark
+    public void findMinMax() {
+        algorithms.findMinMax(data);
+    }
+
+    @Benchmark
+    public int sumArray() {
+        return algorithms.sumArray(data);
+    }
+
+    @Benchmark
+    public void averageArray() {
+        algorithms.averageArray(data);
+    }
+
+    @Benchmark
+    public void linearSearch() {
+        algorithms.linearSearch(data, target);
+    }
+
+    @Benchmark
+    public int[] sortArray() {
+        return algorithms.sortArray(data);
+    }
+
+    @Benchmark
+    public void binarySearch() {
+        algorithms.binarySearch(data, target);
+    }
+
+    @Benchmark
+    public void reverseArray() {
+        algorithms.reverseArray(data);
+    }
+
+    @Benchmark
+    public void removeDuplicatesSorted() {
+        algorithms.removeDuplicatesSorted(data);
+    }
+
+    @Benchmark
+    public void rotateArray() {
+        algorithms.rotateArray(data, 3);
+    }
+
+    @Benchmark
+    public void rotateArray2() {
+        algorithms.rotateArray2(data, 3);
+    }
+}
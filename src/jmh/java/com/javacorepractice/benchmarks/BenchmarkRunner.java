@@ -0,0 +1,49 @@
+package com.javacorepractice.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/*
+ Entry point of target/benchmarks.jar (built with: mvn -Pbenchmarks -DskipTests package).
+ Accepts the regular JMH command line (filters, -p, -f, -wi, -i, ...) and adds defaults:
+ - gc profiler -> allocation rate (gc.alloc.rate, gc.alloc.rate.norm)
+ - JSON result file in benchmark-results/ with a timestamp, so two runs can be diffed
+ Throughput (ops/s) and SampleTime (p99) modes are declared on the benchmark classes.
+ Percentiles are stored in seconds with full precision in the JSON file;
+ for a readable console table of fast methods use: -tu us
+*/
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cli);
+
+        // -prof gc is added only once, even if it was passed on the command line
+        boolean gcRequested = cli.getProfilers().stream()
+                .anyMatch(p -> p.getKlass().equals("gc") || p.getKlass().equals(GCProfiler.class.getName()));
+        if (!gcRequested) {
+            builder.addProfiler(GCProfiler.class);
+        }
+
+        // -rf / -rff from the command line win over the defaults
+        if (!cli.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            File dir = new File("benchmark-results");
+            dir.mkdirs();
+            String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            builder.result(new File(dir, "jmh-" + stamp + ".json").getPath());
+        }
+
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package com.javacorepractice.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ Shared helpers for the benchmark states.
+ The reference implementations (ArrayAlgorithms, StringAlgorithms, ListAlgorithms) print to System.out;
+ the console is muted during measurement so the terminal does not become the bottleneck,
+ but the cost of building the printed strings is still measured.
+*/
+public final class BenchmarkSupport {
+
+    // 10 .. 10^7, override with: -p size=...
+    public static final String SIZE_10 = "10";
+    public static final String SIZE_1K = "1000";
+    public static final String SIZE_100K = "100000";
+    public static final String SIZE_10M = "10000000";
+
+    private static final PrintStream ORIGINAL_OUT = System.out;
+    private static final PrintStream NULL_OUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private BenchmarkSupport() {
+    }
+
+    public static void muteConsole() {
+        System.setOut(NULL_OUT);
+    }
+
+    public static void restoreConsole() {
+        System.setOut(ORIGINAL_OUT);
+    }
+
+    // Fixed seed — every run and every fork measures the same data
+    public static int[] randomInts(int size, int bound) {
+        Random random = new Random(42);
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = random.nextInt(bound);
+        }
+        return arr;
+    }
+
+    // Random lowercase text of exactly 'length' chars
+    public static String randomText(int length, int alphabet) {
+        Random random = new Random(42);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(alphabet));
+        }
+        return new String(chars);
+    }
+
+    // Words of 1..8 letters separated by single spaces, total length close to 'length'
+    public static String randomSentence(int length) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(length + 8);
+        while (sb.length() < length) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            int wordLength = 1 + random.nextInt(8);
+            for (int i = 0; i < wordLength; i++) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 'size' keys in [0, keys) with Zipf distribution: key k drawn with probability ~ 1 / (k+1)^exponent.
+    // Inverse-CDF sampling over a precomputed cumulative table; keys are scrambled so hot keys are not adjacent.
+    public static int[] zipfianInts(int size, int keys, double exponent) {
+        double[] cumulative = new double[keys];
+        double total = 0;
+        for (int k = 0; k < keys; k++) {
+            total += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        Random random = new Random(42);
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            rank = rank >= 0 ? rank : Math.min(-rank - 1, keys - 1);
+            arr[i] = rank * 0x9E3779B1 & Integer.MAX_VALUE;
+        }
+        return arr;
+    }
+}
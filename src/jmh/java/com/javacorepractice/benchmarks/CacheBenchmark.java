@@ -0,0 +1,143 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.cache.BoundedCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ Cache-aside lookups (get, put on miss) with Zipfian keys at 1, 4 and 16 threads:
+ BoundedCache vs Collections.synchronizedMap(LinkedHashMap LRU) from MapExamples.linkedHashMapLruDemo.
+ Hit rates are printed at tear-down; throughput alone does not tell which cache keeps the hot set.
+*/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    private static final int SAMPLES = 1 << 20;  // power of two: cursor wraps with a mask
+    private static final int KEY_SPACE = 1 << 17;
+
+    @Param({"boundedCache", "synchronizedLru"})
+    public String impl;
+
+    @Param({"8192"})
+    public int capacity;
+
+    @Param({"0.99"})
+    public double skew;
+
+    private int[] keys;
+    private BoundedCache<Integer, Integer> bounded;
+    private Map<Integer, Integer> lru;
+    private final LongAdder lruHits = new LongAdder();
+    private final LongAdder lruMisses = new LongAdder();
+
+    // Per-thread position and hit / miss counts (counted for both caches, so the cost is the same);
+    // added to the shared totals only at tear-down, so no contended writes while measuring
+    @State(Scope.Thread)
+    public static class Cursor {
+        int position;
+        long hits;
+        long misses;
+
+        @Setup
+        public void setUp() {
+            position = ThreadLocalRandom.current().nextInt(SAMPLES);
+        }
+
+        @TearDown
+        public void tearDown(CacheBenchmark benchmark) {
+            benchmark.lruHits.add(hits);
+            benchmark.lruMisses.add(misses);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        keys = BenchmarkSupport.zipfianInts(SAMPLES, KEY_SPACE, skew);
+        bounded = BoundedCache.<Integer, Integer>newBuilder().maximumSize(capacity).build();
+        int limit = capacity;
+        lru = Collections.synchronizedMap(new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > limit;
+            }
+        });
+        lruHits.reset();
+        lruMisses.reset();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if ("boundedCache".equals(impl)) {
+            System.out.println("\n" + bounded.stats());
+        } else {
+            long hits = lruHits.sum();
+            long requests = hits + lruMisses.sum();
+            System.out.printf("%nsynchronizedLru hitRate=%.3f%n", requests == 0 ? 1.0 : (double) hits / requests);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer lookup1Thread(Cursor cursor) {
+        return lookup(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer lookup4Threads(Cursor cursor) {
+        return lookup(cursor);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer lookup16Threads(Cursor cursor) {
+        return lookup(cursor);
+    }
+
+    private Integer lookup(Cursor cursor) {
+        Integer key = keys[cursor.position++ & (SAMPLES - 1)];
+        if ("boundedCache".equals(impl)) {
+            Integer value = bounded.getIfPresent(key);
+            if (value == null) {
+                cursor.misses++;
+                value = key;
+                bounded.put(key, value);
+            } else {
+                cursor.hits++;
+            }
+            return value;
+        }
+        Integer value = lru.get(key);
+        if (value == null) {
+            cursor.misses++;
+            value = key;
+            lru.put(key, value);
+        } else {
+            cursor.hits++;
+        }
+        return value;
+    }
+}
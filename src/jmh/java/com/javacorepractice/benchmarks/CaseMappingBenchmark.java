@@ -0,0 +1,118 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.strings.CaseMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ StringBasics.toLowerEn / toLowerTr (String.toLowerCase, new Locale("tr") per call) vs CaseMapping
+ on 'size' words (Latin-1, mixed case, a third already lower case). english* shows that
+ CaseMapping adds nothing outside tr / az (it delegates to String).
+ bulk*: lowercase a copy of the array in place — a sequential loop vs CaseMapping.toLowerCaseAll
+ on the common ForkJoinPool (only helps on a multi-core host).
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaseMappingBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K})
+    public int size;
+
+    private String[] words;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String upper = "ABCDEFGHIJKLMNOPRSTUVYZÇÖÜ";
+        String lower = "abcdefghijklmnoprstuvyzçöü";
+        words = new String[size];
+        for (int k = 0; k < size; k++) {
+            boolean alreadyLower = random.nextInt(3) == 0;
+            char[] chars = new char[3 + random.nextInt(10)];
+            for (int i = 0; i < chars.length; i++) {
+                String letters = alreadyLower || random.nextBoolean() ? lower : upper;
+                chars[i] = letters.charAt(random.nextInt(letters.length()));
+            }
+            words[k] = new String(chars);
+        }
+    }
+
+    @Benchmark
+    public int englishJdk() {
+        int length = 0;
+        for (String word : words) {
+            length += word.toLowerCase(Locale.ENGLISH).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int englishCaseMapping() {
+        int length = 0;
+        for (String word : words) {
+            length += CaseMapping.toLowerCase(word, Locale.ENGLISH).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public int turkishJdkNewLocale() {
+        int length = 0;
+        for (String word : words) {
+            length += word.toLowerCase(new Locale("tr")).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int turkishJdkCachedLocale() {
+        int length = 0;
+        for (String word : words) {
+            length += word.toLowerCase(CaseMapping.TURKISH).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int turkishCaseMapping() {
+        int length = 0;
+        for (String word : words) {
+            length += CaseMapping.toLowerCase(word, CaseMapping.TURKISH).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public String[] bulkSequentialJdk() {
+        String[] copy = words.clone();
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = copy[i].toLowerCase(CaseMapping.TURKISH);
+        }
+        return copy;
+    }
+
+    @Benchmark
+    public String[] bulkCaseMappingForkJoin() {
+        String[] copy = words.clone();
+        CaseMapping.toLowerCaseAll(copy, CaseMapping.TURKISH);
+        return copy;
+    }
+}
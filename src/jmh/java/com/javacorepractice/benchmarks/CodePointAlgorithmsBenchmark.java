@@ -0,0 +1,97 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.strings.CodePointAlgorithms;
+import com.javacorepractice.foundation.strings.CodePointSet;
+import com.javacorepractice.foundation.strings.StringAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ StringAlgorithms (boolean[256], new StringBuilder per call, printing)
+ vs CodePointAlgorithms with a reused sink and CodePointSet.
+ latin1 = true: Latin-1 text (the only input the reference methods accept);
+ latin1 = false: mixed Cyrillic, CJK and emoji — the reference methods are skipped
+ there (they would throw), the numbers show the cost of the general code point path.
+*/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodePointAlgorithmsBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K,
+            BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean latin1;
+
+    private final StringAlgorithms algorithms = new StringAlgorithms();
+    private final CodePointSet seen = new CodePointSet();
+    private final StringBuilder sink = new StringBuilder();
+    private String text;
+
+    @Setup
+    public void setUp() {
+        if (latin1) {
+            text = BenchmarkSupport.randomText(size, 26);
+        } else {
+            int[] codePoints = {'a', 'b', 0x0436, 0x0439, 0x4E2D, 0x6587, 0x1F600, 0x1F680};
+            Random random = new Random(42);
+            StringBuilder sb = new StringBuilder(size + 1);
+            while (sb.length() < size) {
+                sb.appendCodePoint(codePoints[random.nextInt(codePoints.length)]);
+            }
+            text = sb.toString();
+        }
+        BenchmarkSupport.muteConsole();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreConsole();
+    }
+
+    @Benchmark
+    public void referenceRemoveDuplicateChars() {
+        if (latin1) {
+            algorithms.removeDuplicateChars(text);
+        }
+    }
+
+    @Benchmark
+    public int codePointRemoveDuplicates() {
+        sink.setLength(0);
+        CodePointAlgorithms.removeDuplicates(text, seen, sink);
+        return sink.length();
+    }
+
+    @Benchmark
+    public void referenceCollapseAdjacentRuns() {
+        if (latin1) {
+            algorithms.collapseAdjacentRuns(text);
+        }
+    }
+
+    @Benchmark
+    public int codePointCollapseAdjacentRuns() {
+        sink.setLength(0);
+        CodePointAlgorithms.collapseAdjacentRuns(text, sink);
+        return sink.length();
+    }
+}
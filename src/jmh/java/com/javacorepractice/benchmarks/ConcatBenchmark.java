@@ -0,0 +1,121 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.strings.Rope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/*
+ StringBasics.compareConcatPerformance as a JMH benchmark, plus Rope.
+ numbers*: append the numbers 0..size-1 ("+" is O(n^2): seconds per call at 100K).
+ report*:  a payload of 'size' 1 KB sections (100 MB of chars at 100K) with a header inserted
+           at the front at the end, then written to a Writer — StringBuilder (grow by copying,
+           insert(0) moves everything, toString copies again) vs Rope (sections referenced,
+           O(1) prepend, streamed chunk by chunk).
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ConcatBenchmark {
+
+    private static final int SECTION_LENGTH = 1024;
+    private static final String HEADER = "report generated for 2024-01-01\n";
+
+    @Param({BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K})
+    public int size;
+
+    private String[] sections;
+    private final Writer sink = Writer.nullWriter();
+
+    @Setup
+    public void setUp() {
+        // 16 distinct sections reused, as a report repeats row templates
+        sections = new String[16];
+        for (int k = 0; k < sections.length; k++) {
+            sections[k] = BenchmarkSupport.randomSentence(SECTION_LENGTH - 1).substring(k, SECTION_LENGTH - 1) + "\n";
+        }
+    }
+
+    @Benchmark
+    public int numbersPlus() {
+        String result = "";
+        for (int i = 0; i < size; i++) {
+            result = result + i;
+        }
+        return result.length();
+    }
+
+    @Benchmark
+    public int numbersStringBuilder() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            result.append(i);
+        }
+        return result.toString().length();
+    }
+
+    @Benchmark
+    public int numbersStringBuffer() {
+        StringBuffer result = new StringBuffer();
+        for (int i = 0; i < size; i++) {
+            result.append(i);
+        }
+        return result.toString().length();
+    }
+
+    @Benchmark
+    public int numbersStringJoiner() {
+        StringJoiner result = new StringJoiner("");
+        for (int i = 0; i < size; i++) {
+            result.add(String.valueOf(i));
+        }
+        return result.toString().length();
+    }
+
+    @Benchmark
+    public int numbersRope() {
+        Rope result = new Rope();
+        for (int i = 0; i < size; i++) {
+            result.append(i);
+        }
+        return result.toString().length();
+    }
+
+    @Benchmark
+    public int reportStringBuilder() throws IOException {
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            report.append(sections[i & 15]);
+        }
+        report.insert(0, HEADER);
+        sink.write(report.toString());
+        return report.length();
+    }
+
+    @Benchmark
+    public int reportRope() throws IOException {
+        Rope report = new Rope();
+        for (int i = 0; i < size; i++) {
+            report.append(sections[i & 15]);
+        }
+        report.prepend(HEADER);
+        report.writeTo(sink);
+        return report.length();
+    }
+}
@@ -0,0 +1,62 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.arrays.ArrayAlgorithms;
+import com.javacorepractice.foundation.list.ListAlgorithms;
+import com.javacorepractice.foundation.strings.StringAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Public methods without a size parameter: the runAll() demos and ListAlgorithms.sortList
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixedInputBenchmark {
+
+    private final ArrayAlgorithms arrayAlgorithms = new ArrayAlgorithms();
+    private final StringAlgorithms stringAlgorithms = new StringAlgorithms();
+    private final ListAlgorithms listAlgorithms = new ListAlgorithms();
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.muteConsole();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreConsole();
+    }
+
+    @Benchmark
+    public void arrayAlgorithmsRunAll() {
+        arrayAlgorithms.runAll();
+    }
+
+    @Benchmark
+    public void stringAlgorithmsRunAll() {
+        stringAlgorithms.runAll();
+    }
+
+    @Benchmark
+    public void listAlgorithmsRunAll() {
+        listAlgorithms.runAll();
+    }
+
+    @Benchmark
+    public void sortList() {
+        listAlgorithms.sortList();
+    }
+}
@@ -0,0 +1,182 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.counting.ConcurrentFrequencyCounter;
+import com.javacorepractice.foundation.counting.CountMinSketchCounter;
+import com.javacorepractice.foundation.counting.FrequencyCounter;
+import com.javacorepractice.foundation.counting.KeyCount;
+import com.javacorepractice.foundation.counting.StripedFrequencyCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Token counting from several ingest threads, Zipfian token stream (few very hot tokens):
+ - synchronizedGetOrDefault: hashMapDemo2 counter pattern made safe with one lock
+ - concurrentMerge:          ConcurrentHashMap<String, Long>.merge (bin lock per update)
+ - longAdder / striped / countMin: the foundation.counting implementations
+ The ingestWithTopK group runs 3 writers next to 1 reader taking top-10 snapshots,
+ to show that snapshots do not stall the writers.
+*/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FrequencyCounterBenchmark {
+
+    private static final int SAMPLES = 1 << 20;
+    private static final int DISTINCT_TOKENS = 1 << 16;
+
+    @Param({"synchronizedGetOrDefault", "concurrentMerge", "longAdder", "striped", "countMin"})
+    public String impl;
+
+    private String[] tokens;
+    private FrequencyCounter<String> counter;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int position;
+
+        @Setup
+        public void setUp() {
+            position = ThreadLocalRandom.current().nextInt(SAMPLES);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        int[] keys = BenchmarkSupport.zipfianInts(SAMPLES, DISTINCT_TOKENS, 1.0);
+        tokens = new String[SAMPLES];
+        Map<Integer, String> interned = new HashMap<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            tokens[i] = interned.computeIfAbsent(keys[i], k -> "token" + k);
+        }
+        counter = create(impl);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void increment1Thread(Cursor cursor) {
+        counter.increment(tokens[cursor.position++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void increment4Threads(Cursor cursor) {
+        counter.increment(tokens[cursor.position++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void increment16Threads(Cursor cursor) {
+        counter.increment(tokens[cursor.position++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    @Group("ingestWithTopK")
+    @GroupThreads(3)
+    public void writer(Cursor cursor) {
+        counter.increment(tokens[cursor.position++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    @Group("ingestWithTopK")
+    @GroupThreads(1)
+    public List<KeyCount<String>> topKReader() {
+        return counter.topK(10);
+    }
+
+    private static FrequencyCounter<String> create(String impl) {
+        switch (impl) {
+            case "synchronizedGetOrDefault":
+                return new SynchronizedHashMapCounter();
+            case "concurrentMerge":
+                return new MergeCounter();
+            case "longAdder":
+                return new ConcurrentFrequencyCounter<>(DISTINCT_TOKENS);
+            case "striped":
+                return new StripedFrequencyCounter<>();
+            case "countMin":
+                return CountMinSketchCounter.ofError(0.0001, 0.99, 64);
+            default:
+                throw new IllegalArgumentException("Unknown counter: " + impl);
+        }
+    }
+
+    // Baseline: the getOrDefault + put pattern behind one monitor
+    static final class SynchronizedHashMapCounter implements FrequencyCounter<String> {
+        private final Map<String, Long> counts = new HashMap<>();
+
+        @Override
+        public synchronized void add(String key, long delta) {
+            counts.put(key, counts.getOrDefault(key, 0L) + delta);
+        }
+
+        @Override
+        public synchronized long count(String key) {
+            return counts.getOrDefault(key, 0L);
+        }
+
+        @Override
+        public synchronized long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        @Override
+        public synchronized List<KeyCount<String>> topK(int k) {
+            return topOf(counts, k);
+        }
+    }
+
+    // Baseline: ConcurrentHashMap.merge boxes a new Long on every update
+    static final class MergeCounter implements FrequencyCounter<String> {
+        private final ConcurrentHashMap<String, Long> counts = new ConcurrentHashMap<>();
+
+        @Override
+        public void add(String key, long delta) {
+            counts.merge(key, delta, Long::sum);
+        }
+
+        @Override
+        public long count(String key) {
+            return counts.getOrDefault(key, 0L);
+        }
+
+        @Override
+        public long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        @Override
+        public List<KeyCount<String>> topK(int k) {
+            return topOf(counts, k);
+        }
+    }
+
+    private static List<KeyCount<String>> topOf(Map<String, Long> counts, int k) {
+        List<KeyCount<String>> all = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> all.add(new KeyCount<>(key, count)));
+        all.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return new ArrayList<>(all.subList(0, Math.min(k, all.size())));
+    }
+}
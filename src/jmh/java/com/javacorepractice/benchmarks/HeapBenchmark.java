@@ -0,0 +1,98 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.queue.LongIntHeap;
+import com.javacorepractice.foundation.queue.TopKCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Whole-workload timings (ms per run):
+ - offerPoll*:  'size' offers of random priorities, then 'size' polls
+ - topK*:       top 100 of a stream of 'size' priorities
+ Priority changes (PriorityQueue.remove + offer vs IndexedMinHeap) are in RescheduleBenchmark.
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class HeapBenchmark {
+
+    private static final int TOP_K = 100;
+
+    @Param({BenchmarkSupport.SIZE_100K, "10000000"})
+    public int size;
+
+    private long[] priorities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        priorities = new long[size];
+        for (int i = 0; i < size; i++) {
+            priorities[i] = random.nextLong();
+        }
+    }
+
+    @Benchmark
+    public long offerPollPriorityQueue() {
+        PriorityQueue<Long> queue = new PriorityQueue<>();
+        for (long priority : priorities) {
+            queue.offer(priority);
+        }
+        long checksum = 0;
+        while (!queue.isEmpty()) {
+            checksum += queue.poll();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long offerPollLongIntHeap() {
+        LongIntHeap heap = new LongIntHeap();
+        for (int i = 0; i < priorities.length; i++) {
+            heap.offer(priorities[i], i);
+        }
+        long checksum = 0;
+        while (!heap.isEmpty()) {
+            checksum += heap.peekPriority();
+            heap.poll();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long topKPriorityQueue() {
+        PriorityQueue<Long> queue = new PriorityQueue<>(TOP_K + 1);
+        for (long priority : priorities) {
+            queue.offer(priority);
+            if (queue.size() > TOP_K) {
+                queue.poll();
+            }
+        }
+        return queue.peek();
+    }
+
+    @Benchmark
+    public long topKCollector() {
+        TopKCollector collector = new TopKCollector(TOP_K);
+        for (int i = 0; i < priorities.length; i++) {
+            collector.offer(priorities[i], i);
+        }
+        return collector.threshold();
+    }
+}
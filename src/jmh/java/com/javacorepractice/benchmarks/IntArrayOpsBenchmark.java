@@ -0,0 +1,88 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.arrays.IntArrayOps;
+import com.javacorepractice.foundation.arrays.MinMax;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// IntArrayOps (no tracing) — compare with the same methods in ArrayAlgorithmsBenchmark
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntArrayOpsBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K,
+            BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    private final IntArrayOps ops = new IntArrayOps();
+    private int[] data;
+    private int[] sorted;
+    private int target;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkSupport.randomInts(size, size);
+        sorted = Arrays.copyOf(data, size);
+        Arrays.sort(sorted);
+        target = data[size / 2];
+    }
+
+    @Benchmark
+    public MinMax minMax() {
+        return ops.minMax(data);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return ops.indexOf(data, target);
+    }
+
+    @Benchmark
+    public int binarySearch() {
+        return ops.binarySearch(sorted, target);
+    }
+
+    @Benchmark
+    public int[] reversed() {
+        return ops.reversed(data);
+    }
+
+    // Mutates the shared array; the contents stay a permutation of the same values
+    @Benchmark
+    public int[] reverseInPlace() {
+        ops.reverseInPlace(data);
+        return data;
+    }
+
+    @Benchmark
+    public int[] distinctSorted() {
+        return ops.distinctSorted(sorted);
+    }
+
+    @Benchmark
+    public int[] rotated() {
+        return ops.rotated(data, 3);
+    }
+
+    @Benchmark
+    public int[] rotateInPlace() {
+        ops.rotateInPlace(data, 3);
+        return data;
+    }
+}
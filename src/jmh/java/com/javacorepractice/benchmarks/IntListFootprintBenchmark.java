@@ -0,0 +1,104 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.list.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Memory footprint and scan speed: IntArrayList vs ArrayList<Integer> vs LinkedList<Integer>.
+ build* methods create a presized list of 'size' distinct values (0 .. size - 1, so boxing
+ is not served by the Integer cache) and nothing else, so the gc profiler metric
+ gc.alloc.rate.norm (bytes per operation) is the footprint of the finished structure.
+ sum* methods iterate a prebuilt list.
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IntListFootprintBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private IntArrayList intList;
+    private List<Integer> arrayList;
+    private List<Integer> linkedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        intList = buildIntArrayList();
+        arrayList = buildArrayList();
+        linkedList = buildLinkedList();
+    }
+
+    @Benchmark
+    public IntArrayList buildIntArrayList() {
+        IntArrayList list = new IntArrayList(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> buildArrayList() {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> buildLinkedList() {
+        List<Integer> list = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumIntArrayList() {
+        long sum = 0;
+        for (int i = 0; i < intList.size(); i++) {
+            sum += intList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumArrayList() {
+        long sum = 0;
+        for (int value : arrayList) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumLinkedList() {
+        long sum = 0;
+        for (int value : linkedList) {
+            sum += value;
+        }
+        return sum;
+    }
+}
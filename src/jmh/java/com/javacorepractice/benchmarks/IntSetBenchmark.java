@@ -0,0 +1,148 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.bitmap.RoaringIntSet;
+import com.javacorepractice.foundation.hash.IntHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Set algebra on id sets: HashSet<Integer> / TreeSet<Integer> (SetExamples) vs IntHashSet vs RoaringIntSet.
+ Two sets of 'size' ids each, drawn from [0, size * spread):
+ spread 2 -> dense ids (bitmap containers), spread 1000 -> sparse ids (array containers).
+ build* methods show the footprint with -prof gc (gc.alloc.rate.norm).
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IntSetBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K, "1000000"})
+    public int size;
+
+    @Param({"2", "1000"})
+    public int spread;
+
+    private int[] first;
+    private int[] second;
+    private Set<Integer> hashA;
+    private Set<Integer> hashB;
+    private TreeSet<Integer> treeA;
+    private TreeSet<Integer> treeB;
+    private IntHashSet intHashA;
+    private IntHashSet intHashB;
+    private RoaringIntSet roaringA;
+    private RoaringIntSet roaringB;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int bound = (int) Math.min(Integer.MAX_VALUE, (long) size * spread);
+        first = random.ints(size, 0, bound).toArray();
+        second = random.ints(size, 0, bound).toArray();
+        hashA = buildHashSet(first);
+        hashB = buildHashSet(second);
+        treeA = new TreeSet<>(hashA);
+        treeB = new TreeSet<>(hashB);
+        intHashA = IntHashSet.of(first);
+        intHashB = IntHashSet.of(second);
+        roaringA = RoaringIntSet.of(first);
+        roaringB = RoaringIntSet.of(second);
+    }
+
+    @Benchmark
+    public Set<Integer> buildHashSet() {
+        return buildHashSet(first);
+    }
+
+    @Benchmark
+    public IntHashSet buildIntHashSet() {
+        return IntHashSet.of(first);
+    }
+
+    @Benchmark
+    public RoaringIntSet buildRoaring() {
+        return RoaringIntSet.of(first);
+    }
+
+    @Benchmark
+    public Set<Integer> intersectHashSet() {
+        Set<Integer> result = new HashSet<>(hashA);
+        result.retainAll(hashB);
+        return result;
+    }
+
+    @Benchmark
+    public Set<Integer> intersectTreeSet() {
+        TreeSet<Integer> result = new TreeSet<>(treeA);
+        result.retainAll(treeB);
+        return result;
+    }
+
+    @Benchmark
+    public IntHashSet intersectIntHashSet() {
+        return intHashA.intersection(intHashB);
+    }
+
+    @Benchmark
+    public RoaringIntSet intersectRoaring() {
+        return roaringA.intersection(roaringB);
+    }
+
+    @Benchmark
+    public Set<Integer> unionHashSet() {
+        Set<Integer> result = new HashSet<>(hashA);
+        result.addAll(hashB);
+        return result;
+    }
+
+    @Benchmark
+    public IntHashSet unionIntHashSet() {
+        return intHashA.union(intHashB);
+    }
+
+    @Benchmark
+    public RoaringIntSet unionRoaring() {
+        return roaringA.union(roaringB);
+    }
+
+    @Benchmark
+    public IntHashSet differenceIntHashSet() {
+        return intHashA.difference(intHashB);
+    }
+
+    @Benchmark
+    public RoaringIntSet differenceRoaring() {
+        return roaringA.difference(roaringB);
+    }
+
+    @Benchmark
+    public long cardinalityRoaring() {
+        return roaringA.intersectionCardinality(roaringB);
+    }
+
+    private static Set<Integer> buildHashSet(int[] values) {
+        Set<Integer> set = new HashSet<>();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+}
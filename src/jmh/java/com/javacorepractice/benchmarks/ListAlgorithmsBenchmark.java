@@ -0,0 +1,79 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.list.ListAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ListAlgorithms over LinkedList<Integer> of 10 .. 10^7 elements.
+// sortList works on a fixed 5-element list and is in FixedInputBenchmark.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListAlgorithmsBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K,
+            BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    private final ListAlgorithms algorithms = new ListAlgorithms();
+    private List<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = algorithms.fillList(size);
+        BenchmarkSupport.muteConsole();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreConsole();
+    }
+
+    @Benchmark
+    public List<Integer> fillList() {
+        return algorithms.fillList(size);
+    }
+
+    @Benchmark
+    public void printWithIterator() {
+        algorithms.printWithIterator(list);
+    }
+
+    @Benchmark
+    public void indexOf() {
+        algorithms.indexOf(list);
+    }
+
+    // removeElement deletes value 7 (if present) and prints the list;
+    // the element is put back so every invocation sees the same list
+    @Benchmark
+    public void removeElement() {
+        int before = list.size();
+        algorithms.removeElement(list);
+        if (list.size() < before) {
+            list.add(7, 7);
+        }
+    }
+
+    // Two reversals restore the original order
+    @Benchmark
+    public void reverseList() {
+        algorithms.reverseList(list);
+    }
+}
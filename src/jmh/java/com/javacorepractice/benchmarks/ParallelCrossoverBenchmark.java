@@ -0,0 +1,107 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.arrays.IntArrayOps;
+import com.javacorepractice.foundation.arrays.MinMax;
+import com.javacorepractice.foundation.arrays.ParallelIntArrayOps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ Serial (IntArrayOps) vs fork/join (ParallelIntArrayOps) on the same data.
+ The crossover size is the first 'size' where parallel* has a lower time than serial*
+ for the host core count (printed at setup). Threshold 0 means "use DEFAULT_THRESHOLD".
+ Example: java -jar target/benchmarks.jar ParallelCrossover -p threshold=16384,65536
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelCrossoverBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "50000000"})
+    public int size;
+
+    @Param({"0"})
+    public int threshold;
+
+    private final IntArrayOps serial = new IntArrayOps();
+    private ParallelIntArrayOps parallel;
+    private int[] data;
+    private int lastValue;
+    private int absent;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkSupport.randomInts(size, 1000);
+        lastValue = 1000; // the only occurrence is the last element — worst case for "first match"
+        data[size - 1] = lastValue;
+        absent = -1;
+        parallel = threshold == 0 ? new ParallelIntArrayOps() : new ParallelIntArrayOps(threshold);
+        System.out.println("Cores: " + Runtime.getRuntime().availableProcessors()
+                + ", threshold: " + parallel.getThreshold());
+    }
+
+    @Benchmark
+    public long serialSum() {
+        return serial.sum(data);
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return parallel.sum(data);
+    }
+
+    @Benchmark
+    public MinMax serialMinMax() {
+        return serial.minMax(data);
+    }
+
+    @Benchmark
+    public MinMax parallelMinMax() {
+        return parallel.minMax(data);
+    }
+
+    // ~size/1000 matches
+    @Benchmark
+    public int[] serialIndexesOf() {
+        return serial.indexesOf(data, 7);
+    }
+
+    @Benchmark
+    public int[] parallelIndexesOf() {
+        return parallel.indexesOf(data, 7);
+    }
+
+    @Benchmark
+    public int serialIndexOfLast() {
+        return serial.indexOf(data, lastValue);
+    }
+
+    @Benchmark
+    public int parallelIndexOfLast() {
+        return parallel.indexOf(data, lastValue);
+    }
+
+    @Benchmark
+    public int serialIndexOfAbsent() {
+        return serial.indexOf(data, absent);
+    }
+
+    @Benchmark
+    public int parallelIndexOfAbsent() {
+        return parallel.indexOf(data, absent);
+    }
+}
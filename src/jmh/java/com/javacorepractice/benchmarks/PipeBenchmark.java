@@ -0,0 +1,126 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.hash.IntHashSet;
+import com.javacorepractice.foundation.stream.DoublePipe;
+import com.javacorepractice.foundation.stream.IntPipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/*
+ Fused primitive pipelines (foundation.stream.IntPipe / DoublePipe) vs java.util.stream on the
+ same data, with a hand-written loop as the lower bound. Compare methods with the same prefix.
+ The gc profiler columns (B/op) show the per-element allocation of the boxed / flatMap streams.
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipeBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    private int[] values;
+    private double[] doubles;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkSupport.randomInts(size, 1_000_000);
+        doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+            doubles[i] = values[i] / 7.0;
+        }
+    }
+
+    // StreamExamples.basicPipelineDemo + reduceDemo: filter + map + sum
+    @Benchmark
+    public int filterMapSumStream() {
+        return IntStream.of(values).filter(x -> x % 2 == 0).map(x -> x * 10).sum();
+    }
+
+    @Benchmark
+    public int filterMapSumBoxedStream() {
+        return IntStream.of(values).boxed().filter(x -> x % 2 == 0).map(x -> x * 10).reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int filterMapSumPipe() {
+        return IntPipe.of(values).filter(x -> x % 2 == 0).map(x -> x * 10).sum();
+    }
+
+    @Benchmark
+    public int filterMapSumLoop() {
+        int sum = 0;
+        for (int x : values) {
+            if (x % 2 == 0) {
+                sum += x * 10;
+            }
+        }
+        return sum;
+    }
+
+    // StreamExamples.flatMapDemo: every element expands to 0..2 values
+    @Benchmark
+    public int[] flatMapStream() {
+        return IntStream.of(values).flatMap(x -> IntStream.range(0, x % 3).map(k -> x + k)).toArray();
+    }
+
+    @Benchmark
+    public int[] flatMapPipe() {
+        return IntPipe.of(values).flatMap((x, out) -> {
+            for (int k = 0; k < x % 3; k++) {
+                out.accept(x + k);
+            }
+        }).toArray();
+    }
+
+    // short-circuit: first element > 999_000 (found after ~1000 elements on average)
+    @Benchmark
+    public int findFirstStream() {
+        return IntStream.of(values).filter(x -> x > 999_000).findFirst().orElse(-1);
+    }
+
+    @Benchmark
+    public int findFirstPipe() {
+        return IntPipe.of(values).filter(x -> x > 999_000).findFirst().orElse(-1);
+    }
+
+    // StreamExamples.uniqueElementsDemo
+    @Benchmark
+    public Set<Integer> distinctStream() {
+        return IntStream.of(values).map(x -> x / 10).boxed().collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public IntHashSet distinctPipe() {
+        return IntPipe.of(values).map(x -> x / 10).toSet();
+    }
+
+    // compensated double sum, bit-for-bit equal results
+    @Benchmark
+    public double doubleMapSumStream() {
+        return DoubleStream.of(doubles).filter(x -> x > 100).map(x -> x * 1.5).sum();
+    }
+
+    @Benchmark
+    public double doubleMapSumPipe() {
+        return DoublePipe.of(doubles).filter(x -> x > 100).map(x -> x * 1.5).sum();
+    }
+}
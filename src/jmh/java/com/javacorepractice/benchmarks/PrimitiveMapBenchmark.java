@@ -0,0 +1,125 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.hash.Int2IntHashMap;
+import com.javacorepractice.foundation.hash.Int2ObjectHashMap;
+import com.javacorepractice.foundation.list.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Counter and grouping patterns of MapExamples.hashMapDemo2: HashMap<Integer, ...> vs open-addressing primitive maps
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveMapBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K,
+            BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    // distinct keys = size / keyRatio: 1 -> mostly inserts, 10 -> mostly updates
+    @Param({"1", "10"})
+    public int keyRatio;
+
+    private int[] keys;
+
+    @Setup
+    public void setUp() {
+        keys = BenchmarkSupport.randomInts(size, Math.max(1, size / keyRatio));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> counterGetOrDefaultPut() {
+        Map<Integer, Integer> counter = new HashMap<>();
+        for (int key : keys) {
+            counter.put(key, counter.getOrDefault(key, 0) + 1);
+        }
+        return counter;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> counterMerge() {
+        Map<Integer, Integer> counter = new HashMap<>();
+        for (int key : keys) {
+            counter.merge(key, 1, Integer::sum);
+        }
+        return counter;
+    }
+
+    @Benchmark
+    public Int2IntHashMap counterAddTo() {
+        Int2IntHashMap counter = new Int2IntHashMap();
+        for (int key : keys) {
+            counter.addTo(key, 1);
+        }
+        return counter;
+    }
+
+    // group positions by key
+    @Benchmark
+    public Map<Integer, List<Integer>> groupingComputeIfAbsent() {
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            groups.computeIfAbsent(keys[i], k -> new ArrayList<>()).add(i);
+        }
+        return groups;
+    }
+
+    @Benchmark
+    public Int2ObjectHashMap<IntArrayList> groupingPrimitive() {
+        Int2ObjectHashMap<IntArrayList> groups = new Int2ObjectHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            groups.computeIfAbsent(keys[i], k -> new IntArrayList()).add(i);
+        }
+        return groups;
+    }
+
+    // read-only pass over a filled map: entrySet vs forEach without Map.Entry
+    @Benchmark
+    public long iterateHashMap(FilledMaps maps) {
+        long sum = 0;
+        for (Map.Entry<Integer, Integer> entry : maps.hashMap.entrySet()) {
+            sum += entry.getKey() * (long) entry.getValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iteratePrimitive(FilledMaps maps) {
+        long sum = 0;
+        Int2IntHashMap.Cursor cursor = maps.primitive.cursor();
+        while (cursor.next()) {
+            sum += cursor.key() * (long) cursor.value();
+        }
+        return sum;
+    }
+
+    @State(Scope.Benchmark)
+    public static class FilledMaps {
+        Map<Integer, Integer> hashMap;
+        Int2IntHashMap primitive;
+
+        @Setup
+        public void setUp(PrimitiveMapBenchmark benchmark) {
+            hashMap = benchmark.counterMerge();
+            primitive = benchmark.counterAddTo();
+        }
+    }
+}
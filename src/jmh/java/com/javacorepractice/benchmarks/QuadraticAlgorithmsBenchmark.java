@@ -0,0 +1,83 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.arrays.sort.BubbleSort;
+import com.javacorepractice.foundation.arrays.sort.InsertionSort;
+import com.javacorepractice.foundation.arrays.sort.IntSortStrategy;
+import com.javacorepractice.foundation.strings.StringAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/*
+ O(n²) reference methods. The default sizes stop at 10^4:
+ bubble sort of 10^7 elements is ~5 * 10^13 comparisons and would never finish an iteration.
+ Larger sizes can still be requested explicitly with -p size=100000.
+*/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuadraticAlgorithmsBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    private final IntSortStrategy bubble = new BubbleSort();
+    private final IntSortStrategy insertion = new InsertionSort();
+    private final StringAlgorithms stringAlgorithms = new StringAlgorithms();
+    private int[] data;
+    private String text;
+    private String sentence;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkSupport.randomInts(size, size);
+        text = BenchmarkSupport.randomText(size, 26);
+        sentence = BenchmarkSupport.randomSentence(size);
+        BenchmarkSupport.muteConsole();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreConsole();
+    }
+
+    // The original sortArray algorithm, now available as a strategy
+    @Benchmark
+    public int[] bubbleSort() {
+        int[] work = Arrays.copyOf(data, data.length);
+        bubble.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        int[] work = Arrays.copyOf(data, data.length);
+        insertion.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public void reverseManual() {
+        stringAlgorithms.reverseManual(text);
+    }
+
+    @Benchmark
+    public void reverseWordsManual() {
+        stringAlgorithms.reverseWordsManual(sentence);
+    }
+}
@@ -0,0 +1,103 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.arrays.LongRangeIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Range scans and floor lookups: TreeMap<Long, Long> (as in MapExamples.treeMapDemo) vs LongRangeIndex.
+ Keys are ~4 apart on average, so a range of 4 * rangeWidth returns ~rangeWidth keys.
+ 10^8 keys need ~8 GB of heap for the TreeMap alone (entry + boxed key per element), so that
+ size is not a default; run it with e.g. -p size=100000000 -jvmArgsAppend -Xmx12g on a machine
+ that has the memory.
+*/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RangeIndexBenchmark {
+
+    private static final int QUERIES = 1 << 12;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"10", "1000"})
+    public int rangeWidth;
+
+    private TreeMap<Long, Long> treeMap;
+    private LongRangeIndex index;
+    private long[] queryStarts;
+    private int cursor;
+    private long scanSum;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long[] keys = new long[size];
+        long key = 0;
+        for (int i = 0; i < size; i++) {
+            key += 1 + random.nextInt(7);
+            keys[i] = key;
+        }
+        index = LongRangeIndex.bulkLoad(keys);
+        treeMap = new TreeMap<>();
+        for (long k : keys) {
+            Long boxed = k;
+            treeMap.put(boxed, boxed);
+        }
+        queryStarts = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryStarts[i] = (long) (random.nextDouble() * key);
+        }
+    }
+
+    @Benchmark
+    public long rangeScanTreeMap() {
+        long from = nextQuery();
+        long sum = 0;
+        for (Long k : treeMap.subMap(from, from + 4L * rangeWidth).keySet()) {
+            sum += k;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanIndex() {
+        long from = nextQuery();
+        scanSum = 0;
+        index.forEachInRange(from, from + 4L * rangeWidth, k -> scanSum += k);
+        return scanSum;
+    }
+
+    @Benchmark
+    public Long floorTreeMap() {
+        Map.Entry<Long, Long> entry = treeMap.floorEntry(nextQuery());
+        return entry == null ? null : entry.getKey();
+    }
+
+    @Benchmark
+    public long floorIndex() {
+        return index.floorOrDefault(nextQuery(), -1);
+    }
+
+    private long nextQuery() {
+        return queryStarts[cursor++ & (QUERIES - 1)];
+    }
+}
@@ -0,0 +1,93 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.queue.IndexedMinHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Priority changes (ms per run): 'size' / 10 tasks in the queue, 'size' priority changes of
+ random tasks — PriorityQueue: remove(Object) O(n) + offer; IndexedMinHeap: changePriority O(log n).
+ Separate from HeapBenchmark because the PriorityQueue version is quadratic: sizes stop at 10^5.
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RescheduleBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K})
+    public int size;
+
+    private long[] priorities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        priorities = new long[size];
+        for (int i = 0; i < size; i++) {
+            priorities[i] = random.nextLong();
+        }
+    }
+
+    @Benchmark
+    public long reschedulePriorityQueue() {
+        int tasks = Math.max(1, size / 10);
+        PriorityQueue<Task> queue = new PriorityQueue<>(tasks);
+        Task[] byId = new Task[tasks];
+        for (int id = 0; id < tasks; id++) {
+            byId[id] = new Task(id, priorities[id]);
+            queue.offer(byId[id]);
+        }
+        for (int i = 0; i < size; i++) {
+            int id = (int) Long.remainderUnsigned(priorities[i], tasks);
+            queue.remove(byId[id]);
+            byId[id] = new Task(id, priorities[i] >>> 1);
+            queue.offer(byId[id]);
+        }
+        return queue.peek().priority;
+    }
+
+    @Benchmark
+    public long rescheduleIndexedHeap() {
+        int tasks = Math.max(1, size / 10);
+        IndexedMinHeap heap = new IndexedMinHeap(tasks);
+        for (int id = 0; id < tasks; id++) {
+            heap.insert(id, priorities[id]);
+        }
+        for (int i = 0; i < size; i++) {
+            int id = (int) Long.remainderUnsigned(priorities[i], tasks);
+            heap.changePriority(id, priorities[i] >>> 1);
+        }
+        return heap.peekPriority();
+    }
+
+    static final class Task implements Comparable<Task> {
+        final int id;
+        final long priority;
+
+        Task(int id, long priority) {
+            this.id = id;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            return Long.compare(priority, other.priority);
+        }
+    }
+}
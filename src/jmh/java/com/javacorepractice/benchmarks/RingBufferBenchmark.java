@@ -0,0 +1,239 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.queue.BoundedQueue;
+import com.javacorepractice.foundation.queue.MpmcRingBuffer;
+import com.javacorepractice.foundation.queue.MpscRingBuffer;
+import com.javacorepractice.foundation.queue.SpscRingBuffer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/*
+ Hand-off throughput between threads: ring buffers vs ArrayBlockingQueue vs ConcurrentLinkedQueue.
+ Every benchmark method is one non-blocking attempt (offer / poll / drain); blocking calls
+ could hang a thread when the other side of the group stops at the end of an iteration.
+ The aux counters 'offered' / 'polled' count successful transfers: compare those, not the raw
+ op rate (which also counts failed attempts on a full / empty queue).
+ Groups: spsc = 1 producer + 1 consumer, mpsc = 3 + 1, mpmc = 2 + 2.
+ impl 'ring' picks the matching ring buffer variant for the group.
+ ConcurrentLinkedQueue is unbounded; here it gets a producer-side bound of 'capacity' (a counter
+ checked before offer), so all implementations hold at most ~capacity elements and compare on
+ hand-off, not on GC of a growing backlog. Every queue is recreated for each iteration.
+ The WaitStrategy is not involved (it only applies to put / take).
+ Needs at least as many cores as threads in the group for meaningful numbers.
+*/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class RingBufferBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"ring", "arrayBlockingQueue", "concurrentLinkedQueue"})
+    public String impl;
+
+    @Param({"1024"})
+    public int capacity;
+
+    private BoundedQueue<Integer> queue;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long offered;
+        public long polled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+            polled = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp(BenchmarkParams params) {
+        String group = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+        queue = create(group);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscOffer(Counters counters) {
+        offer(counters);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscDrain(Counters counters, Sink sink) {
+        counters.polled += queue.drain(sink, 64);
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(3)
+    public void mpscOffer(Counters counters) {
+        offer(counters);
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(1)
+    public void mpscDrain(Counters counters, Sink sink) {
+        counters.polled += queue.drain(sink, 64);
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(2)
+    public void mpmcOffer(Counters counters) {
+        offer(counters);
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(2)
+    public void mpmcPoll(Counters counters) {
+        if (queue.poll() != null) {
+            counters.polled++;
+        }
+    }
+
+    private void offer(Counters counters) {
+        if (queue.offer(ELEMENT)) {
+            counters.offered++;
+        }
+    }
+
+    // Consumer for drain that keeps the elements alive for the JIT
+    @State(Scope.Thread)
+    public static class Sink implements Consumer<Integer> {
+        public int last;
+
+        @Override
+        public void accept(Integer element) {
+            last = element;
+        }
+    }
+
+    private BoundedQueue<Integer> create(String group) {
+        switch (impl) {
+            case "ring":
+                if ("spsc".equals(group)) {
+                    return new SpscRingBuffer<>(capacity);
+                }
+                return "mpsc".equals(group)
+                        ? new MpscRingBuffer<>(capacity)
+                        : new MpmcRingBuffer<>(capacity);
+            case "arrayBlockingQueue":
+                return new QueueAdapter<>(new ArrayBlockingQueue<>(capacity), capacity);
+            case "concurrentLinkedQueue":
+                return new QueueAdapter<>(new ConcurrentLinkedQueue<>(), capacity, new AtomicInteger());
+            default:
+                throw new IllegalArgumentException("Unknown queue: " + impl);
+        }
+    }
+
+    /*
+     java.util.concurrent queues behind the same non-blocking calls the benchmark uses.
+     With a 'count', an unbounded queue is bounded by the adapter (may overshoot by the number
+     of racing producers).
+    */
+    static final class QueueAdapter<E> implements BoundedQueue<E> {
+        private final Queue<E> queue;
+        private final int capacity;
+        private final AtomicInteger count;  // null when the queue is bounded itself
+
+        QueueAdapter(Queue<E> queue, int capacity) {
+            this(queue, capacity, null);
+        }
+
+        QueueAdapter(Queue<E> queue, int capacity, AtomicInteger count) {
+            this.queue = queue;
+            this.capacity = capacity;
+            this.count = count;
+        }
+
+        @Override
+        public boolean offer(E element) {
+            if (count == null) {
+                return queue.offer(element);
+            }
+            if (count.get() >= capacity) {
+                return false;
+            }
+            count.incrementAndGet();
+            return queue.offer(element);
+        }
+
+        @Override
+        public E poll() {
+            E element = queue.poll();
+            if (element != null && count != null) {
+                count.decrementAndGet();
+            }
+            return element;
+        }
+
+        @Override
+        public void put(E element) {
+            while (!offer(element)) {
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        public E take() {
+            E element;
+            while ((element = poll()) == null) {
+                Thread.onSpinWait();
+            }
+            return element;
+        }
+
+        @Override
+        public int drain(Consumer<? super E> consumer, int limit) {
+            int drained = 0;
+            E element;
+            while (drained < limit && (element = poll()) != null) {
+                consumer.accept(element);
+                drained++;
+            }
+            return drained;
+        }
+
+        @Override
+        public int size() {
+            return count != null ? count.get() : queue.size();
+        }
+
+        @Override
+        public int capacity() {
+            return capacity;
+        }
+    }
+}
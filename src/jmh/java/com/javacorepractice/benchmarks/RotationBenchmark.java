@@ -0,0 +1,68 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.arrays.ArrayRotations;
+import com.javacorepractice.foundation.arrays.IntArrayOps;
+import com.javacorepractice.foundation.arrays.RotatedIntView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Copying rotation vs in-place juggling rotation vs a lazy view that is read once
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RotationBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K,
+            BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    // gcd(size, shift) cycles: 3 -> one long cycle, 1000 -> many short ones (for size >= 1000)
+    @Param({"3", "1000"})
+    public int shift;
+
+    private final IntArrayOps ops = new IntArrayOps();
+    private int[] data;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkSupport.randomInts(size, size);
+    }
+
+    @Benchmark
+    public int[] copyRotated() {
+        return ops.rotated(data, shift);
+    }
+
+    @Benchmark
+    public int[] inPlaceJuggling() {
+        ArrayRotations.rotateRight(data, shift);
+        return data;
+    }
+
+    @Benchmark
+    public int[] inPlaceReverse() {
+        ArrayRotations.reverse(data);
+        return data;
+    }
+
+    @Benchmark
+    public long viewSum() {
+        long[] sum = new long[1];
+        RotatedIntView.of(data, shift).forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+}
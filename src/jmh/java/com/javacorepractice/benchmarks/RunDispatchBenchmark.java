@@ -0,0 +1,150 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.annotation.Run;
+import com.javacorepractice.annotation.RunRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ One round of all @Run methods of a class (4 tiny tasks):
+ - reflectionRunner:        what annotation.Runner does per run (getDeclaredMethods + isAnnotationPresent + invoke)
+ - reflectionCachedMethods: Method objects looked up once, Method.invoke per call
+ - methodHandles:           bound MethodHandles looked up once, invokeExact per call
+ - registry:                RunRegistry.runAll (LambdaMetafactory Runnables)
+ - direct:                  plain calls, the lower bound
+ *OneTask: the same task called from one hot call site (monomorphic, the lambda inlines)
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RunDispatchBenchmark {
+
+    public static class Tasks {
+        long counter;
+
+        @Run
+        public void first() {
+            counter++;
+        }
+
+        @Run
+        public void second() {
+            counter += 2;
+        }
+
+        @Run
+        public void third() {
+            counter += 3;
+        }
+
+        @Run
+        public void fourth() {
+            counter += 4;
+        }
+    }
+
+    private Tasks tasks;
+    private Method[] methods;
+    private MethodHandle[] handles;
+    private RunRegistry registry;
+    private Runnable oneTask;
+    private Method oneMethod;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        tasks = new Tasks();
+        List<Method> annotated = new ArrayList<>();
+        for (Method m : Tasks.class.getDeclaredMethods()) {
+            if (m.isAnnotationPresent(Run.class)) {
+                annotated.add(m);
+            }
+        }
+        methods = annotated.toArray(new Method[0]);
+        handles = new MethodHandle[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            handles[i] = MethodHandles.lookup().unreflect(methods[i]).bindTo(tasks)
+                    .asType(MethodType.methodType(void.class));
+        }
+        registry = RunRegistry.forTargets(tasks);
+        oneTask = registry.task("first");
+        oneMethod = Tasks.class.getMethod("first");
+    }
+
+    @Benchmark
+    public long reflectionRunner() throws ReflectiveOperationException {
+        for (Method m : tasks.getClass().getDeclaredMethods()) {
+            if (m.isAnnotationPresent(Run.class)) {
+                m.invoke(tasks);
+            }
+        }
+        return tasks.counter;
+    }
+
+    @Benchmark
+    public long reflectionCachedMethods() throws ReflectiveOperationException {
+        for (Method m : methods) {
+            m.invoke(tasks);
+        }
+        return tasks.counter;
+    }
+
+    @Benchmark
+    public long methodHandles() throws Throwable {
+        for (MethodHandle handle : handles) {
+            handle.invokeExact();
+        }
+        return tasks.counter;
+    }
+
+    @Benchmark
+    public long registry() {
+        registry.runAll();
+        return tasks.counter;
+    }
+
+    @Benchmark
+    public long direct() {
+        tasks.first();
+        tasks.second();
+        tasks.third();
+        tasks.fourth();
+        return tasks.counter;
+    }
+
+    @Benchmark
+    public long reflectionOneTask() throws ReflectiveOperationException {
+        oneMethod.invoke(tasks);
+        return tasks.counter;
+    }
+
+    @Benchmark
+    public long registryOneTask() {
+        oneTask.run();
+        return tasks.counter;
+    }
+
+    @Benchmark
+    public long directOneTask() {
+        tasks.first();
+        return tasks.counter;
+    }
+}
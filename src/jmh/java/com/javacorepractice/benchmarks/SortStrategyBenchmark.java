@@ -0,0 +1,79 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.arrays.sort.AdaptiveSort;
+import com.javacorepractice.foundation.arrays.sort.DualPivotSort;
+import com.javacorepractice.foundation.arrays.sort.IntSortStrategy;
+import com.javacorepractice.foundation.arrays.sort.LsdRadixSort;
+import com.javacorepractice.foundation.arrays.sort.ParallelArraysSort;
+import com.javacorepractice.foundation.arrays.sort.ParallelMergeSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ O(n log n) and linear sort strategies, 10 .. 10^7 elements.
+ 'range' is the bound of the random values: small ranges favour radix sort (2 passes).
+ Bubble and insertion sort are in QuadraticAlgorithmsBenchmark (sizes up to 10^4).
+ Every invocation sorts a fresh copy of the same data; the copy cost is the same for all strategies.
+*/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortStrategyBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K,
+            BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    @Param({"1000", "2147483647"})
+    public int range;
+
+    @Param({"radix", "parallelMerge", "dualPivot", "parallelArrays", "adaptive"})
+    public String strategy;
+
+    private IntSortStrategy sort;
+    private int[] data;
+    private int[] work;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkSupport.randomInts(size, range);
+        work = new int[size];
+        switch (strategy) {
+            case "radix":
+                sort = new LsdRadixSort();
+                break;
+            case "parallelMerge":
+                sort = new ParallelMergeSort();
+                break;
+            case "dualPivot":
+                sort = new DualPivotSort();
+                break;
+            case "parallelArrays":
+                sort = new ParallelArraysSort();
+                break;
+            default:
+                sort = new AdaptiveSort();
+        }
+    }
+
+    @Benchmark
+    public int[] sort() {
+        System.arraycopy(data, 0, work, 0, size);
+        sort.sort(work);
+        return work;
+    }
+}
@@ -0,0 +1,59 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.arrays.SortedIntIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Lookups per second: one key at a time (sorted vs Eytzinger layout) vs the batch searchAll
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortedIntIndexBenchmark {
+
+    private static final int KEYS = 10_000;
+
+    @Param({BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    @Param({"SORTED", "EYTZINGER"})
+    public SortedIntIndex.Layout layout;
+
+    private SortedIntIndex index;
+    private int[] keys;
+
+    @Setup
+    public void setUp() {
+        index = SortedIntIndex.of(BenchmarkSupport.randomInts(size, Integer.MAX_VALUE), layout);
+        keys = BenchmarkSupport.randomInts(KEYS, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void singleLookups(Blackhole bh) {
+        for (int key : keys) {
+            bh.consume(index.indexOf(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public int[] batchSearchAll() {
+        return index.searchAll(keys);
+    }
+}
@@ -0,0 +1,102 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.strings.Splitter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/*
+ StringBasics.splitBySpaceRegex (str.split("\\s+")) vs a precompiled Pattern vs Splitter.
+ Every method consumes all tokens (sum of token lengths), except first*: only the first token
+ is needed — String.split still cuts the whole input, the lazy Splitter stops after it.
+ Input: 'size' chars of words separated by runs of spaces and tabs.
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SplitterBenchmark {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Splitter SPLITTER = Splitter.onPattern("\\s+");
+
+    @Param({BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(size + 16);
+        while (sb.length() < size) {
+            int word = 1 + random.nextInt(8);
+            for (int i = 0; i < word; i++) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+            sb.append(random.nextInt(4) == 0 ? "  \t" : " ");
+        }
+        text = sb.substring(0, size);
+    }
+
+    @Benchmark
+    public int stringSplitRegex() {
+        int total = 0;
+        for (String token : text.split("\\s+")) {
+            total += token.length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int precompiledPattern() {
+        int total = 0;
+        for (String token : WHITESPACE.split(text)) {
+            total += token.length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int splitterIterable() {
+        int total = 0;
+        for (String token : SPLITTER.split(text)) {
+            total += token.length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int splitterStream() {
+        return SPLITTER.splitToStream(text).mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public int splitterParallelStream() {
+        return SPLITTER.splitToStream(text).parallel().mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public String firstStringSplit() {
+        return text.split("\\s+")[0];
+    }
+
+    @Benchmark
+    public String firstSplitter() {
+        return SPLITTER.split(text).iterator().next();
+    }
+}
@@ -0,0 +1,118 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.hash.Int2IntHashMap;
+import com.javacorepractice.foundation.hash.IntHashSet;
+import com.javacorepractice.foundation.stream.IntPipelines;
+import com.javacorepractice.foundation.stream.PrimitiveCollectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+ StreamExamples pipelines on large inputs: boxed Stream + Collectors vs the IntStream /
+ primitive-collector equivalents (foundation.stream), each sequential and parallel.
+ Matrix: size x mode; compare methods with the same prefix (filterMap*, distinct*, grouping*, toMap*).
+ The 10^8 row keeps 10^8 Integer objects alive (~2 GB) next to the int[] — hence -Xmx12g;
+ run smaller sizes with -p size=100000,1000000 on small machines.
+ Example: java -jar target/benchmarks.jar StreamCollectors -p mode=parallel
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+@State(Scope.Benchmark)
+public class StreamCollectorsBenchmark {
+
+    private static final int KEYS = 1000;
+
+    @Param({BenchmarkSupport.SIZE_100K, "1000000", BenchmarkSupport.SIZE_10M, "100000000"})
+    public int size;
+
+    @Param({"sequential", "parallel"})
+    public String mode;
+
+    private boolean parallel;
+    private int[] values;
+    private List<Integer> boxed;
+
+    @Setup
+    public void setUp() {
+        parallel = "parallel".equals(mode);
+        values = BenchmarkSupport.randomInts(size, size);
+        boxed = new ArrayList<>(size);
+        for (int value : values) {
+            boxed.add(value);
+        }
+    }
+
+    private Stream<Integer> boxedStream() {
+        return parallel ? boxed.parallelStream() : boxed.stream();
+    }
+
+    // basicPipelineDemo: filter + map + collect
+    @Benchmark
+    public List<Integer> filterMapBoxed() {
+        return boxedStream().filter(x -> x % 2 == 0).map(x -> x * 10).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int[] filterMapIntStream() {
+        return IntPipelines.evenTimesTen(values, parallel);
+    }
+
+    // uniqueElementsDemo: distinct into a set
+    @Benchmark
+    public Set<Integer> distinctToSet() {
+        return boxedStream().collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public IntHashSet distinctIntHashSet() {
+        return IntPipelines.distinct(values, parallel);
+    }
+
+    // groupingDemo: KEYS groups of ~size / KEYS elements
+    @Benchmark
+    public Map<Integer, List<Integer>> groupingByJdk() {
+        return boxedStream().collect(Collectors.groupingBy(x -> x % KEYS));
+    }
+
+    @Benchmark
+    public ConcurrentMap<Integer, List<Integer>> groupingByConcurrentJdk() {
+        return boxedStream().collect(Collectors.groupingByConcurrent(x -> x % KEYS));
+    }
+
+    @Benchmark
+    public ConcurrentMap<Integer, List<Integer>> groupingByConcurrentPresized() {
+        return boxedStream().collect(PrimitiveCollectors.concurrentGroupingBy(x -> x % KEYS, KEYS, size / KEYS + 1));
+    }
+
+    // listToMapDemo with a merge function: sum per key
+    @Benchmark
+    public Map<Integer, Integer> toMapJdk() {
+        return boxedStream().collect(Collectors.toMap(x -> x % KEYS, x -> x, Integer::sum));
+    }
+
+    @Benchmark
+    public Int2IntHashMap toMapInt2Int() {
+        return boxedStream().collect(PrimitiveCollectors.toInt2IntMap(x -> x % KEYS, x -> x, Integer::sum));
+    }
+}
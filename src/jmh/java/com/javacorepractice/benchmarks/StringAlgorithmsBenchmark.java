@@ -0,0 +1,94 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.strings.StringAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Linear methods of StringAlgorithms over inputs of 10 .. 10^7 chars.
+// reverseManual and reverseWordsManual (O(n²)) are in QuadraticAlgorithmsBenchmark.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringAlgorithmsBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K,
+            BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    private final StringAlgorithms algorithms = new StringAlgorithms();
+    private String text;
+    private String sentence;
+    private String palindrome;
+    private String runs;
+
+    @Setup
+    public void setUp() {
+        text = BenchmarkSupport.randomText(size, 4);
+        sentence = BenchmarkSupport.randomSentence(size);
+        String half = BenchmarkSupport.randomText(size / 2, 26);
+        palindrome = half + new StringBuilder(half).reverse();
+        runs = BenchmarkSupport.randomText(size, 2); // small alphabet -> many adjacent runs
+        BenchmarkSupport.muteConsole();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreConsole();
+    }
+
+    @Benchmark
+    public boolean isNotEmpty() {
+        return algorithms.isNotEmpty(text);
+    }
+
+    @Benchmark
+    public void reverseWithBuilder() {
+        algorithms.reverseWithBuilder(text);
+    }
+
+    @Benchmark
+    public void reverseWordsStrBuilder() {
+        algorithms.reverseWordsStrBuilder(sentence);
+    }
+
+    @Benchmark
+    public void reverseWordsJoiner() {
+        algorithms.reverseWordsJoiner(sentence);
+    }
+
+    @Benchmark
+    public void isPalindrome() {
+        algorithms.isPalindrome(palindrome);
+    }
+
+    @Benchmark
+    public void removeDuplicateChars() {
+        algorithms.removeDuplicateChars(text);
+    }
+
+    @Benchmark
+    public void collapseAdjacentRuns() {
+        algorithms.collapseAdjacentRuns(runs);
+    }
+
+    // 3-char pattern over a 4-letter alphabet — frequent partial and overlapping matches
+    @Benchmark
+    public void indexOfNaiveAll() {
+        algorithms.indexOfNaiveAll(text, "abc");
+    }
+}
@@ -0,0 +1,132 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.strings.StringAlgorithms;
+import com.javacorepractice.foundation.strings.search.AhoCorasickMatcher;
+import com.javacorepractice.foundation.strings.search.HorspoolMatcher;
+import com.javacorepractice.foundation.strings.search.KmpMatcher;
+import com.javacorepractice.foundation.strings.search.PatternMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ One pattern: naive indexOfNaiveAll, String.indexOf loop, KMP, Horspool.
+ Many patterns: one Aho–Corasick pass vs one Horspool pass per pattern.
+ Text is random lowercase letters; patterns are 8-letter slices of the text (so they do occur).
+*/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubstringSearchBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    @Param({"1", "100"})
+    public int patterns;
+
+    private final StringAlgorithms algorithms = new StringAlgorithms();
+    private String text;
+    private String pattern;
+    private KmpMatcher kmp;
+    private HorspoolMatcher horspool;
+    private List<HorspoolMatcher> horspoolPerPattern;
+    private AhoCorasickMatcher ahoCorasick;
+    private long matches;
+
+    @Setup
+    public void setUp() {
+        text = BenchmarkSupport.randomText(size, 26);
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < patterns; i++) {
+            int start = (int) ((long) i * (size - 8) / patterns);
+            list.add(text.substring(start, start + 8));
+        }
+        pattern = list.get(0);
+        kmp = new KmpMatcher(pattern);
+        horspool = new HorspoolMatcher(pattern);
+        horspoolPerPattern = new ArrayList<>();
+        for (String p : list) {
+            horspoolPerPattern.add(new HorspoolMatcher(p));
+        }
+        ahoCorasick = new AhoCorasickMatcher(list);
+        BenchmarkSupport.muteConsole();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreConsole();
+    }
+
+    @Benchmark
+    public void naiveSingle() {
+        algorithms.indexOfNaiveAll(text, pattern);
+    }
+
+    @Benchmark
+    public long indexOfLoopSingle() {
+        long count = 0;
+        int i = text.indexOf(pattern);
+        while (i >= 0) {
+            count++;
+            i = text.indexOf(pattern, i + 1);
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long kmpSingle() {
+        return count(kmp);
+    }
+
+    @Benchmark
+    public long horspoolSingle() {
+        return count(horspool);
+    }
+
+    @Benchmark
+    public long horspoolEachPattern() {
+        long count = 0;
+        for (PatternMatcher matcher : horspoolPerPattern) {
+            count += count(matcher);
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long ahoCorasickAll() {
+        return count(ahoCorasick);
+    }
+
+    // Streaming path: same text through a Reader in 8K chunks
+    @Benchmark
+    public long ahoCorasickReader() throws IOException {
+        matches = 0;
+        ahoCorasick.search(new StringReader(text), (position, index) -> matches++);
+        return matches;
+    }
+
+    private long count(PatternMatcher matcher) {
+        matches = 0;
+        matcher.search(text, (position, index) -> matches++);
+        return matches;
+    }
+}
@@ -0,0 +1,124 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.strings.TextNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/*
+ StringBasics.cleanText chain (trim + two replaceAll) vs the same chain with precompiled Patterns
+ vs one TextNormalizer pass (new String / reused StringBuilder).
+ full*: accents + lower case + punctuation + whitespace (Normalizer + regex chain vs one pass).
+ Input: words with runs of spaces/tabs, punctuation and some accented letters.
+*/
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextNormalizerBenchmark {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PUNCTUATION = Pattern.compile("\\p{Punct}");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final TextNormalizer FULL = TextNormalizer.builder()
+            .removeAccents()
+            .lowerCase()
+            .stripPunctuation()
+            .collapseWhitespace()
+            .trim()
+            .build();
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K, BenchmarkSupport.SIZE_100K})
+    public int size;
+
+    private String text;
+    private final StringBuilder buffer = new StringBuilder();
+
+    @Setup
+    public void setUp() {
+        text = dirtyText(size);
+    }
+
+    // 'length' chars: words of mixed case with accents, separated by whitespace runs and punctuation
+    static String dirtyText(int length) {
+        Random random = new Random(42);
+        String letters = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJéèçñüÅØ";
+        String separators = "  \t,.!?;:-\"";
+        StringBuilder sb = new StringBuilder(length + 8);
+        sb.append("  ");
+        while (sb.length() < length) {
+            int word = 1 + random.nextInt(8);
+            for (int i = 0; i < word; i++) {
+                sb.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            int gap = 1 + random.nextInt(3);
+            for (int i = 0; i < gap; i++) {
+                sb.append(separators.charAt(random.nextInt(separators.length())));
+            }
+        }
+        return sb.substring(0, length);
+    }
+
+    @Benchmark
+    public String cleanTextRegexChain() {
+        return text.trim()
+                .replaceAll("\\s+", " ")
+                .replaceAll("\\p{Punct}", "");
+    }
+
+    @Benchmark
+    public String cleanTextPrecompiled() {
+        String trimmed = text.trim();
+        return PUNCTUATION.matcher(WHITESPACE.matcher(trimmed).replaceAll(" ")).replaceAll("");
+    }
+
+    @Benchmark
+    public String cleanTextNormalizer() {
+        return TextNormalizer.CLEAN_TEXT.normalize(text);
+    }
+
+    @Benchmark
+    public int cleanTextNormalizerReusedBuffer() {
+        buffer.setLength(0);
+        return TextNormalizer.CLEAN_TEXT.normalize(text, buffer).length();
+    }
+
+    @Benchmark
+    public String fullRegexChain() {
+        String noAccents = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        return noAccents.toLowerCase(Locale.ROOT)
+                .replaceAll("\\p{Punct}", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    @Benchmark
+    public String fullPrecompiled() {
+        String noAccents = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        String noPunctuation = PUNCTUATION.matcher(noAccents.toLowerCase(Locale.ROOT)).replaceAll("");
+        return WHITESPACE.matcher(noPunctuation).replaceAll(" ").trim();
+    }
+
+    @Benchmark
+    public int fullNormalizerReusedBuffer() {
+        buffer.setLength(0);
+        return FULL.normalize(text, buffer).length();
+    }
+}
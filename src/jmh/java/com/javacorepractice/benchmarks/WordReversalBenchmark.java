@@ -0,0 +1,84 @@
+package com.javacorepractice.benchmarks;
+
+import com.javacorepractice.foundation.strings.StringAlgorithms;
+import com.javacorepractice.foundation.strings.WordReverser;
+import com.javacorepractice.foundation.strings.WordTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// split(" ")-based reversal (StringBuilder / StringJoiner) vs in-place WordReverser over a reused char[];
+// word counting with split vs WordTokenizer
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WordReversalBenchmark {
+
+    @Param({BenchmarkSupport.SIZE_10, BenchmarkSupport.SIZE_1K,
+            BenchmarkSupport.SIZE_100K, BenchmarkSupport.SIZE_10M})
+    public int size;
+
+    private final StringAlgorithms algorithms = new StringAlgorithms();
+    private String sentence;
+    private char[] buffer;
+
+    @Setup
+    public void setUp() {
+        sentence = BenchmarkSupport.randomSentence(size);
+        buffer = new char[sentence.length()];
+        BenchmarkSupport.muteConsole();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkSupport.restoreConsole();
+    }
+
+    @Benchmark
+    public void referenceStrBuilder() {
+        algorithms.reverseWordsStrBuilder(sentence);
+    }
+
+    @Benchmark
+    public void referenceJoiner() {
+        algorithms.reverseWordsJoiner(sentence);
+    }
+
+    @Benchmark
+    public char[] inPlacePreserve() {
+        sentence.getChars(0, sentence.length(), buffer, 0);
+        WordReverser.reverseWords(buffer, 0, buffer.length, WordReverser.Whitespace.PRESERVE);
+        return buffer;
+    }
+
+    @Benchmark
+    public char[] inPlaceCollapse() {
+        sentence.getChars(0, sentence.length(), buffer, 0);
+        WordReverser.reverseWords(buffer, 0, buffer.length, WordReverser.Whitespace.COLLAPSE);
+        return buffer;
+    }
+
+    @Benchmark
+    public int splitCount() {
+        return sentence.split(" ").length;
+    }
+
+    @Benchmark
+    public int tokenizerCount() {
+        return WordTokenizer.countWords(sentence);
+    }
+}
@@ -0,0 +1,294 @@
+package com.javacorepractice.annotation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/*
+ @Run methods collected once and bound to ready-to-call Runnables — Runner without the
+ per-run reflection.
+
+ Runner repeats getDeclaredMethods() + isAnnotationPresent() for every run and then calls
+ Method.invoke: argument array, access check, boxing of the result, checked-exception wrapping.
+ Here the lookup happens once (scan of a package / list of classes / existing objects), and
+ every method becomes a Runnable generated by LambdaMetafactory, the same mechanism javac
+ uses for "obj::method". Calling task.run() is then an ordinary interface call: from a hot
+ call site that always runs the same task the JIT inlines it like a direct call; runAll over
+ many different tasks pays one virtual call per task (a few ns), no reflection and no allocation.
+ If a lambda cannot be spun for a method, a bound MethodHandle is used instead (slower than
+ the lambda, still much cheaper than Method.invoke).
+
+ Rules for @Run methods: no parameters, any return type (the result is ignored).
+ Instance methods run on one object per class, created with the no-arg constructor or
+ passed to forTargets. Static methods need no object.
+ Order: by class name, then method name (getDeclaredMethods has no defined order).
+ Exceptions thrown by a task reach the caller unwrapped (no InvocationTargetException).
+ The registry is immutable after creation and safe to share between threads; the tasks
+ themselves are as thread-safe as the annotated methods.
+*/
+public final class RunRegistry {
+
+    private static final MethodType RUNNABLE_SAM = MethodType.methodType(void.class);
+
+    private final List<RunTask> tasks;
+    private final Runnable[] bodies;
+
+    private RunRegistry(List<RunTask> tasks) {
+        this.tasks = Collections.unmodifiableList(tasks);
+        this.bodies = tasks.toArray(new Runnable[0]);
+    }
+
+    // Every class in the package and its subpackages, from directories and jars on the class path
+    public static RunRegistry scan(String packageName) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return scan(packageName, loader != null ? loader : RunRegistry.class.getClassLoader());
+    }
+
+    public static RunRegistry scan(String packageName, ClassLoader loader) {
+        Objects.requireNonNull(packageName);
+        Objects.requireNonNull(loader);
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : findClassNames(packageName, loader)) {
+            try {
+                classes.add(Class.forName(className, false, loader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new IllegalStateException("Cannot load " + className, e);
+            }
+        }
+        return forClasses(classes.toArray(new Class<?>[0]));
+    }
+
+    // The given classes; instance methods run on a new object of their class
+    public static RunRegistry forClasses(Class<?>... classes) {
+        Map<Class<?>, Object> targets = new LinkedHashMap<>();
+        for (Class<?> type : classes) {
+            targets.put(type, null);
+        }
+        return build(targets);
+    }
+
+    // Instance (and static) @Run methods of existing objects, one object per class
+    public static RunRegistry forTargets(Object... targets) {
+        Map<Class<?>, Object> byClass = new LinkedHashMap<>();
+        for (Object target : targets) {
+            if (byClass.put(target.getClass(), target) != null) {
+                throw new IllegalArgumentException("Two targets of " + target.getClass().getName());
+            }
+        }
+        return build(byClass);
+    }
+
+    public List<RunTask> tasks() {
+        return tasks;
+    }
+
+    public int size() {
+        return tasks.size();
+    }
+
+    // Task by name (see RunTask.name) or by method name alone if that is unique
+    public RunTask task(String name) {
+        RunTask match = null;
+        for (RunTask task : tasks) {
+            if (task.name().equals(name)) {
+                return task;
+            }
+            if (task.method().getName().equals(name)) {
+                if (match != null) {
+                    throw new IllegalArgumentException("Ambiguous task name: " + name);
+                }
+                match = task;
+            }
+        }
+        if (match == null) {
+            throw new IllegalArgumentException("Unknown task: " + name);
+        }
+        return match;
+    }
+
+    // Runs every task in order, straight through the bound Runnables
+    public void runAll() {
+        for (Runnable body : bodies) {
+            body.run();
+        }
+    }
+
+    private static RunRegistry build(Map<Class<?>, Object> targets) {
+        Map<Class<?>, Object> instances = new HashMap<>(targets);
+        List<Method> methods = new ArrayList<>();
+        for (Class<?> type : targets.keySet()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Run.class)) {
+                    check(method);
+                    methods.add(method);
+                }
+            }
+        }
+        methods.sort(Comparator.comparing((Method m) -> m.getDeclaringClass().getName())
+                .thenComparing(Method::getName));
+        List<RunTask> tasks = new ArrayList<>(methods.size());
+        for (Method method : methods) {
+            Object target = null;
+            if (!Modifier.isStatic(method.getModifiers())) {
+                target = instances.computeIfAbsent(method.getDeclaringClass(), RunRegistry::newInstance);
+            }
+            tasks.add(new RunTask(method, bind(method, target)));
+        }
+        return new RunRegistry(tasks);
+    }
+
+    private static void check(Method method) {
+        if (method.getParameterCount() != 0) {
+            throw new IllegalArgumentException("@Run method must have no parameters: " + method);
+        }
+        if (Modifier.isAbstract(method.getModifiers())) {
+            throw new IllegalArgumentException("@Run method must not be abstract: " + method);
+        }
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot create " + type.getName()
+                    + " (instance @Run methods need a no-arg constructor)", e);
+        }
+    }
+
+    /*
+     target::method (or Type::method for static methods) as a Runnable.
+     The lookup is a private lookup in the declaring class, so non-public methods work too.
+    */
+    private static Runnable bind(Method method, Object target) {
+        MethodHandle handle;
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("No access to " + method, e);
+        }
+        try {
+            return lambda(lookup, handle, target);
+        } catch (LambdaConversionException | IllegalAccessException | RuntimeException e) {
+            return boundHandle(handle, target);
+        }
+    }
+
+    private static Runnable lambda(MethodHandles.Lookup lookup, MethodHandle handle, Object target)
+            throws LambdaConversionException, IllegalAccessException {
+        boolean isStatic = target == null;
+        MethodType factoryType = isStatic
+                ? MethodType.methodType(Runnable.class)
+                : MethodType.methodType(Runnable.class, handle.type().parameterType(0));
+        CallSite site = LambdaMetafactory.metafactory(lookup, "run", factoryType,
+                RUNNABLE_SAM, handle, RUNNABLE_SAM);
+        try {
+            return isStatic
+                    ? (Runnable) site.getTarget().invoke()
+                    : (Runnable) site.getTarget().invoke(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Fallback: handle with the target bound and the result dropped, invoked exactly
+    private static Runnable boundHandle(MethodHandle handle, Object target) {
+        MethodHandle bound = (target == null ? handle : handle.bindTo(target)).asType(RUNNABLE_SAM);
+        return () -> {
+            try {
+                bound.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    // Binary names of the .class files under the package directory in every class path root
+    private static TreeSet<String> findClassNames(String packageName, ClassLoader loader) {
+        String path = packageName.replace('.', '/');
+        TreeSet<String> names = new TreeSet<>();
+        try {
+            Enumeration<URL> roots = loader.getResources(path);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                if ("file".equals(root.getProtocol())) {
+                    addFromDirectory(Paths.get(root.toURI()), packageName, names);
+                } else if ("jar".equals(root.getProtocol())) {
+                    addFromJar(((JarURLConnection) root.openConnection()).getJarFile(), path, names);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return names;
+    }
+
+    private static void addFromDirectory(Path directory, String packageName, TreeSet<String> names)
+            throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.map(directory::relativize)
+                    .map(Path::toString)
+                    .filter(RunRegistry::isClassFile)
+                    .forEach(file -> names.add(packageName + "." + toBinaryName(file.replace('\\', '/'))));
+        }
+    }
+
+    private static void addFromJar(JarFile jar, String path, TreeSet<String> names) {
+        String prefix = path + "/";
+        for (JarEntry entry : (Iterable<JarEntry>) jar.stream()::iterator) {
+            String name = entry.getName();
+            if (name.startsWith(prefix) && isClassFile(name)) {
+                names.add(toBinaryName(name));
+            }
+        }
+    }
+
+    private static boolean isClassFile(String file) {
+        return file.endsWith(".class") && !file.endsWith("module-info.class") && !file.endsWith("package-info.class");
+    }
+
+    private static String toBinaryName(String file) {
+        return file.substring(0, file.length() - ".class".length()).replace('/', '.');
+    }
+
+    @Override
+    public String toString() {
+        return tasks.toString();
+    }
+}
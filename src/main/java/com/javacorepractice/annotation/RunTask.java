@@ -0,0 +1,36 @@
+package com.javacorepractice.annotation;
+
+import java.lang.reflect.Method;
+
+// One @Run method bound to its target: run() is a plain interface call (see RunRegistry)
+public final class RunTask implements Runnable {
+
+    private final String name;
+    private final Method method;
+    private final Runnable body;
+
+    RunTask(Method method, Runnable body) {
+        this.name = method.getDeclaringClass().getName() + "#" + method.getName();
+        this.method = method;
+        this.body = body;
+    }
+
+    // DeclaringClass#method, e.g. com.javacorepractice.annotation.DemoTasks#compute
+    public String name() {
+        return name;
+    }
+
+    public Method method() {
+        return method;
+    }
+
+    @Override
+    public void run() {
+        body.run();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -2,6 +2,7 @@ package com.javacorepractice.annotation;
 
 import java.lang.reflect.Method;
 
+// Reflection on every run; to scan once and call the methods at direct-call cost see RunRegistry
 public class Runner {
     public static void main(String[] args) throws Exception {
         DemoTasks obj = new DemoTasks();
@@ -86,12 +86,15 @@ public class MapExamples {
         System.out.println("Method: hashMapDemo2");
 
         // 1) Counter pattern (getOrDefault)
+        // two lookups and a boxed Integer per update; for int keys see foundation.hash.Int2IntHashMap.addTo
+        // not atomic either: for counting from many threads see foundation.counting.FrequencyCounter
         Map<String, Integer> counter = new HashMap<>();
         counter.put("apple", counter.getOrDefault("apple", 0) + 1);
         counter.put("apple", counter.getOrDefault("apple", 0) + 1);
         System.out.println("Counter apple: " + counter.get("apple"));
 
         // 2) Grouping pattern (computeIfAbsent)
+        // int-keyed version without boxing: foundation.hash.Int2ObjectHashMap.computeIfAbsent
         Map<String, List<String>> groups = new HashMap<>();
         groups.computeIfAbsent("A", k -> new ArrayList<>()).add("Alice");
         // if no List exists for key "A", a new ArrayList is created and used as the value
@@ -155,6 +158,7 @@ public class MapExamples {
         System.out.println("Method: linkedHashMapLruDemo");
 
         // LinkedHashMap with access-order enabled (LRU behavior)
+        // Single-threaded only; for a concurrent, frequency-aware cache see foundation.cache.BoundedCache
         Map<Integer, String> cache = new LinkedHashMap<>(16, 0.75f, true) {
 
             // Called after each put(); returns true -> the eldest entry is removed
@@ -219,6 +223,9 @@ public class MapExamples {
         // in natural order this would correspond to: 2 < key <= 5
 
         // Values may be duplicated, but keys are always unique in any Map
+
+        // For millions of int/long keys the same navigation without boxing and tree nodes:
+        // foundation.arrays.LongRangeIndex (floor/ceiling/range iteration over sorted arrays)
     }
 
 }
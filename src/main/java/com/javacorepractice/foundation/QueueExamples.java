@@ -41,6 +41,8 @@ public class QueueExamples {
          - LinkedList implements both List and Queue
          - FIFO behavior when used via Queue interface
          - Slower than ArrayDeque for queue operations
+         - None of these demo queues is thread-safe; for bounded hand-off between threads
+           see foundation.queue (SPSC / MPSC / MPMC ring buffers)
         */
     }
 
@@ -127,6 +129,8 @@ public class QueueExamples {
          - Duplicates ARE allowed
          - poll() returns the smallest element first
          - O(log n) for offer() and poll()
+         - Cannot change the priority of a queued element (remove is O(n));
+           primitive and indexed heaps: foundation.queue.LongIntHeap / IndexedMinHeap / TopKCollector
         */
     }
 
@@ -42,6 +42,8 @@ public class SetExamples {
          - No guaranteed order
          - Average O(1) add/contains/remove
          - Uniqueness is based on equals() and hashCode()
+         - Every element is a boxed Integer + a HashMap node: for large int sets
+           see foundation.hash.IntHashSet and foundation.bitmap.RoaringIntSet
         */
     }
 
@@ -98,6 +100,7 @@ public class SetExamples {
          - Sorted by natural order or Comparator
          - O(log n) add/contains/remove
          - No null elements allowed
+         - first/last/higher/lower on compressed int sets: foundation.bitmap.RoaringIntSet
         */
     }
 }
@@ -1,7 +1,12 @@
 package com.javacorepractice.foundation;
 
+import com.javacorepractice.foundation.stream.IntPipe;
+import com.javacorepractice.foundation.stream.IntPipelines;
+import com.javacorepractice.foundation.stream.PrimitiveCollectors;
+
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 // Stream relies on lambda expressions
 public class StreamExamples {
@@ -13,6 +18,7 @@ public class StreamExamples {
         listToMapDemo();
         groupingDemo();
         flatMapDemo();
+        primitiveStreamDemo();
     }
 
     // filter + map + forEach (many -> many)
@@ -125,4 +131,29 @@ public class StreamExamples {
 
         System.out.println("List: " + list);
     }
+
+    // The same pipelines on IntStream / int keys: no Integer objects (see foundation.stream.IntPipelines)
+    public static void primitiveStreamDemo() {
+        System.out.println("Method: primitiveStreamDemo");
+
+        int[] values = {1, 2, 3, 4, 5, 6};
+        System.out.println("evenTimesTen: " + Arrays.toString(IntPipelines.evenTimesTen(values, false)));
+        System.out.println("sum: " + IntPipelines.sum(new int[]{1, 2, 3, 4}, false));
+        // the same pipeline fused into one loop, no stream objects per run (foundation.stream.IntPipe)
+        System.out.println("IntPipe filter + map + sum: "
+                + IntPipe.of(values).filter(x -> x % 2 == 0).map(x -> x * 10).sum());
+
+        int[] duplicates = {1, 2, 2, 3, 3, 3, 4};
+        System.out.println("distinct (IntHashSet): " + IntPipelines.distinct(duplicates, true));
+        System.out.println("distinct in order: " + Arrays.toString(IntPipelines.distinctInOrder(duplicates)));
+
+        System.out.println("toMap by length: " + IntPipelines.byLength(List.of("one", "two", "three"), false));
+        System.out.println("grouping by first char (as int): "
+                + IntPipelines.groupByFirstChar(List.of("apple", "apricot", "banana", "Blueberry"), false));
+        System.out.println("flatten: " + Arrays.toString(IntPipelines.flatten(new int[][]{{1, 2}, {3, 4}, {5}}, false)));
+
+        // counting per key without Long boxes; for large parallel streams see concurrentGroupingBy
+        System.out.println("counting by x % 3: "
+                + IntStream.rangeClosed(1, 10).boxed().collect(PrimitiveCollectors.countingByInt(x -> x % 3)));
+    }
 }
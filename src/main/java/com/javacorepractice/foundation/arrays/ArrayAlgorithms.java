@@ -1,8 +1,15 @@
 package com.javacorepractice.foundation.arrays;
 
+import com.javacorepractice.foundation.arrays.sort.AdaptiveSort;
+import com.javacorepractice.foundation.arrays.sort.BubbleSort;
+import com.javacorepractice.foundation.arrays.sort.IntSortStrategy;
+
 import java.util.Arrays;
 
 public class ArrayAlgorithms {
+
+    private static final IntSortStrategy DEFAULT_SORT = new AdaptiveSort();
+
     public void runAll() {
         int[] arr = {5, 3, 9, 2, 11, 4, 4, 22, 0, 4};
         if (!isArrayNullOrEmpty(arr)) {
@@ -12,6 +19,7 @@ public class ArrayAlgorithms {
             averageArray(arr);
             linearSearch(arr, 3);
             sortArray(arr);
+            sortArray(arr, new BubbleSort());
             binarySearch(arr, 4);
             reverseArray(arr);
             removeDuplicatesSorted(arr);
@@ -82,32 +90,22 @@ public class ArrayAlgorithms {
         }
     }
 
-    // Sorts an integer array manually (Bubble Sort) without modifying the original
+    // Sorts a copy of the array, the original array remains unchanged.
+    // Uses AdaptiveSort (insertion / radix / dual-pivot / parallel by size and value range);
+    // the original manual Bubble Sort (O(n²)) is still available as BubbleSort
     public int[] sortArray(int[] arr) {
-        System.out.println("Method: sortArray");
+        return sortArray(arr, DEFAULT_SORT);
+    }
+
+    // Same as sortArray, with an explicit algorithm, e.g. sortArray(arr, new BubbleSort())
+    public int[] sortArray(int[] arr, IntSortStrategy strategy) {
+        System.out.println("Method: sortArray (" + strategy.name() + ")");
 
         // Create a copy so that the original array remains unchanged
         int[] sorted = Arrays.copyOf(arr, arr.length);
-        int length = sorted.length;
-        boolean flag;
-
-        // Bubble Sort — repeatedly compares adjacent elements and swaps them
-        // O(n²)
-        for (int i = 0; i < length - 1; i++) {
-            flag = false;
-            for (int j = 0; j < length - i - 1; j++) {
-                if (sorted[j] > sorted[j + 1]) {
-                    int temp = sorted[j];
-                    sorted[j] = sorted[j + 1];
-                    sorted[j + 1] = temp;
-                    flag = true;
-                }
-            }
-            // Optimization: if no swaps happened, array is already sorted
-            if (!flag) break;
-        }
+        strategy.sort(sorted);
 
-        System.out.println("Sorted ascending (manual): " + Arrays.toString(sorted));
+        System.out.println("Sorted ascending: " + Arrays.toString(sorted));
         return sorted; // return the new sorted array
     }
 
@@ -0,0 +1,228 @@
+package com.javacorepractice.foundation.arrays;
+
+import java.util.Objects;
+
+/*
+ In-place reversal and rotation over a range [from, to) of an array — O(1) extra memory.
+ ArrayAlgorithms.rotateArray / rotateArray2 / reverseArray copy the whole array first
+ (rotateArray2 even twice); these methods move the elements where they are.
+
+ Rotation uses the juggling (cycle-leader) algorithm: rotating n elements by k
+ splits the positions into gcd(n, k) cycles; every cycle is walked once, each element
+ is moved exactly once — n writes in total (three reversals need 2n writes).
+
+ k > 0 rotates right, k < 0 rotates left, |k| may be larger than the range.
+ Overloads exist for int[], long[], double[] and T[].
+ For read-only access without moving data see RotatedIntView.
+*/
+public final class ArrayRotations {
+
+    private ArrayRotations() {
+    }
+
+    public static void reverse(int[] arr) {
+        reverse(arr, 0, arr.length);
+    }
+
+    public static void rotateRight(int[] arr, int k) {
+        rotateRight(arr, 0, arr.length, k);
+    }
+
+    public static void rotateLeft(int[] arr, int k) {
+        rotateLeft(arr, 0, arr.length, k);
+    }
+
+    public static void rotateLeft(int[] arr, int from, int to, int k) {
+        rotateRight(arr, from, to, -(k % Math.max(to - from, 1)));
+    }
+
+    public static void rotateLeft(long[] arr, int from, int to, int k) {
+        rotateRight(arr, from, to, -(k % Math.max(to - from, 1)));
+    }
+
+    public static void rotateLeft(double[] arr, int from, int to, int k) {
+        rotateRight(arr, from, to, -(k % Math.max(to - from, 1)));
+    }
+
+    public static <T> void rotateLeft(T[] arr, int from, int to, int k) {
+        rotateRight(arr, from, to, -(k % Math.max(to - from, 1)));
+    }
+
+    public static void reverse(int[] arr, int from, int to) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int left = from;
+        int right = to - 1;
+        while (left < right) {
+            int temp = arr[left];
+            arr[left++] = arr[right];
+            arr[right--] = temp;
+        }
+    }
+
+    public static void rotateRight(int[] arr, int from, int to, int k) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        // right by k == left by (length - k)
+        int shift = length - normalizeShift(k, length);
+        if (shift == length) {
+            return;
+        }
+        int cycles = gcd(length, shift);
+        for (int start = 0; start < cycles; start++) {
+            int temp = arr[from + start];
+            int j = start;
+            while (true) {
+                int next = j + shift;
+                if (next >= length) {
+                    next -= length;
+                }
+                if (next == start) {
+                    break;
+                }
+                arr[from + j] = arr[from + next];
+                j = next;
+            }
+            arr[from + j] = temp;
+        }
+    }
+
+    public static void reverse(long[] arr, int from, int to) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int left = from;
+        int right = to - 1;
+        while (left < right) {
+            long temp = arr[left];
+            arr[left++] = arr[right];
+            arr[right--] = temp;
+        }
+    }
+
+    public static void rotateRight(long[] arr, int from, int to, int k) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        // right by k == left by (length - k)
+        int shift = length - normalizeShift(k, length);
+        if (shift == length) {
+            return;
+        }
+        int cycles = gcd(length, shift);
+        for (int start = 0; start < cycles; start++) {
+            long temp = arr[from + start];
+            int j = start;
+            while (true) {
+                int next = j + shift;
+                if (next >= length) {
+                    next -= length;
+                }
+                if (next == start) {
+                    break;
+                }
+                arr[from + j] = arr[from + next];
+                j = next;
+            }
+            arr[from + j] = temp;
+        }
+    }
+
+    public static void reverse(double[] arr, int from, int to) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int left = from;
+        int right = to - 1;
+        while (left < right) {
+            double temp = arr[left];
+            arr[left++] = arr[right];
+            arr[right--] = temp;
+        }
+    }
+
+    public static void rotateRight(double[] arr, int from, int to, int k) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        // right by k == left by (length - k)
+        int shift = length - normalizeShift(k, length);
+        if (shift == length) {
+            return;
+        }
+        int cycles = gcd(length, shift);
+        for (int start = 0; start < cycles; start++) {
+            double temp = arr[from + start];
+            int j = start;
+            while (true) {
+                int next = j + shift;
+                if (next >= length) {
+                    next -= length;
+                }
+                if (next == start) {
+                    break;
+                }
+                arr[from + j] = arr[from + next];
+                j = next;
+            }
+            arr[from + j] = temp;
+        }
+    }
+
+    public static <T> void reverse(T[] arr, int from, int to) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int left = from;
+        int right = to - 1;
+        while (left < right) {
+            T temp = arr[left];
+            arr[left++] = arr[right];
+            arr[right--] = temp;
+        }
+    }
+
+    public static <T> void rotateRight(T[] arr, int from, int to, int k) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        // right by k == left by (length - k)
+        int shift = length - normalizeShift(k, length);
+        if (shift == length) {
+            return;
+        }
+        int cycles = gcd(length, shift);
+        for (int start = 0; start < cycles; start++) {
+            T temp = arr[from + start];
+            int j = start;
+            while (true) {
+                int next = j + shift;
+                if (next >= length) {
+                    next -= length;
+                }
+                if (next == start) {
+                    break;
+                }
+                arr[from + j] = arr[from + next];
+                j = next;
+            }
+            arr[from + j] = temp;
+        }
+    }
+
+    // Maps any k (negative = rotate left, k > length) into [0, length - 1]
+    static int normalizeShift(int k, int length) {
+        return ((k % length) + length) % length;
+    }
+
+    static int gcd(int a, int b) {
+        while (b != 0) {
+            int r = a % b;
+            a = b;
+            b = r;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,36 @@
+package com.javacorepractice.foundation.arrays;
+
+import java.util.Arrays;
+
+// Prints IntArrayOps events in the same format as ArrayAlgorithms
+public class ConsoleTraceListener implements IntArrayTraceListener {
+
+    @Override
+    public void onStart(String method) {
+        System.out.println("Method: " + method);
+    }
+
+    @Override
+    public void onProbe(String method, int index, int value) {
+        System.out.println("Checking index " + index + " (value: " + value + ")");
+    }
+
+    @Override
+    public void onIndex(String method, int target, int index) {
+        if (index >= 0) {
+            System.out.println("Target: " + target + ", Index: " + index);
+        } else {
+            System.out.println("Target " + target + " not found in array.");
+        }
+    }
+
+    @Override
+    public void onMinMax(MinMax result) {
+        System.out.println(result);
+    }
+
+    @Override
+    public void onArray(String method, int[] array, int from, int to) {
+        System.out.println("Result of " + method + ": " + Arrays.toString(Arrays.copyOfRange(array, from, to)));
+    }
+}
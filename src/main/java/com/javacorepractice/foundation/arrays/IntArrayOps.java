@@ -0,0 +1,227 @@
+package com.javacorepractice.foundation.arrays;
+
+/*
+ Return-value versions of the ArrayAlgorithms methods.
+ ArrayAlgorithms stays as the printing reference implementation;
+ IntArrayOps is meant for real use:
+ - results are returned (index, MinMax, array), nothing is printed
+ - no defensive copies: "InPlace" methods mutate the argument,
+   other methods allocate only the returned array
+ - console output is one optional IntArrayTraceListener (ConsoleTraceListener)
+*/
+public class IntArrayOps {
+
+    private final IntArrayTraceListener listener;
+    private final boolean tracing;
+
+    public IntArrayOps() {
+        this(IntArrayTraceListener.NONE);
+    }
+
+    public IntArrayOps(IntArrayTraceListener listener) {
+        this.listener = listener;
+        this.tracing = listener != IntArrayTraceListener.NONE;
+    }
+
+    // Min and max in one pass, O(n); throws for an empty array (there is no min/max)
+    public MinMax minMax(int[] arr) {
+        if (tracing) listener.onStart("minMax");
+        requireNotEmpty(arr);
+        int min = arr[0];
+        int max = arr[0];
+        for (int i = 1; i < arr.length; i++) {
+            int value = arr[i];
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+        MinMax result = new MinMax(min, max);
+        if (tracing) listener.onMinMax(result);
+        return result;
+    }
+
+    // Sum accumulated in long — no int overflow for any int[] (max 2^31 elements * 2^31)
+    public long sum(int[] arr) {
+        if (tracing) listener.onStart("sum");
+        return sumRange(arr);
+    }
+
+    // Average based on the long sum; NaN for an empty array
+    public double average(int[] arr) {
+        if (tracing) listener.onStart("average");
+        return (double) sumRange(arr) / arr.length;
+    }
+
+    // Untraced loop shared by sum and average, so each call reports only its own operation
+    private static long sumRange(int[] arr) {
+        long sum = 0;
+        for (int value : arr) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    // First index of target, or -1 — O(n), stops at the first match
+    public int indexOf(int[] arr, int target) {
+        if (tracing) listener.onStart("indexOf");
+        int index = -1;
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] == target) {
+                index = i;
+                break;
+            }
+        }
+        if (tracing) listener.onIndex("indexOf", target, index);
+        return index;
+    }
+
+    // Last index of target, or -1 — O(n), scans from the end
+    public int lastIndexOf(int[] arr, int target) {
+        if (tracing) listener.onStart("lastIndexOf");
+        int index = -1;
+        for (int i = arr.length - 1; i >= 0; i--) {
+            if (arr[i] == target) {
+                index = i;
+                break;
+            }
+        }
+        if (tracing) listener.onIndex("lastIndexOf", target, index);
+        return index;
+    }
+
+    // All indexes of target in ascending order, empty array if none — O(n), two passes, one allocation
+    public int[] indexesOf(int[] arr, int target) {
+        if (tracing) listener.onStart("indexesOf");
+        int count = 0;
+        for (int value : arr) {
+            if (value == target) {
+                count++;
+            }
+        }
+        int[] result = new int[count];
+        int write = 0;
+        for (int i = 0; write < count; i++) {
+            if (arr[i] == target) {
+                result[write++] = i;
+            }
+        }
+        if (tracing) listener.onArray("indexesOf", result, 0, count);
+        return result;
+    }
+
+    /*
+     Binary search over an array that is ALREADY sorted ascending — O(log n).
+     Unlike ArrayAlgorithms.binarySearch the input is not copied and re-sorted.
+     Returns the index of a match, or -(insertionPoint) - 1 when absent
+     (same contract as Arrays.binarySearch, so the result is always negative when not found).
+    */
+    public int binarySearch(int[] sorted, int target) {
+        if (tracing) listener.onStart("binarySearch");
+        int left = 0;
+        int right = sorted.length - 1;
+        int result = -1;
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+            int value = sorted[mid];
+            if (tracing) listener.onProbe("binarySearch", mid, value);
+            if (value < target) {
+                left = mid + 1;
+            } else if (value > target) {
+                right = mid - 1;
+            } else {
+                result = mid;
+                break;
+            }
+        }
+        if (result < 0) {
+            result = -(left + 1);
+        }
+        if (tracing) listener.onIndex("binarySearch", target, result);
+        return result;
+    }
+
+    // Reverses the array in-place — O(n), no allocation
+    public void reverseInPlace(int[] arr) {
+        if (tracing) listener.onStart("reverseInPlace");
+        ArrayRotations.reverse(arr);
+        if (tracing) listener.onArray("reverseInPlace", arr, 0, arr.length);
+    }
+
+    // Returns a new reversed array, the argument is not changed — O(n), one allocation
+    public int[] reversed(int[] arr) {
+        if (tracing) listener.onStart("reversed");
+        int length = arr.length;
+        int[] result = new int[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = arr[length - 1 - i];
+        }
+        if (tracing) listener.onArray("reversed", result, 0, length);
+        return result;
+    }
+
+    /*
+     Removes duplicates from an array that is ALREADY sorted — O(n), no allocation.
+     Unique values are moved to the front; returns their count.
+     Values after the returned length are left as they were.
+    */
+    public int dedupeSortedInPlace(int[] sorted) {
+        if (tracing) listener.onStart("dedupeSortedInPlace");
+        int write = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[write - 1]) {
+                sorted[write++] = sorted[i];
+            }
+        }
+        if (tracing) listener.onArray("dedupeSortedInPlace", sorted, 0, write);
+        return write;
+    }
+
+    // Unique values of an already sorted array as a new exact-size array — two passes, one allocation
+    public int[] distinctSorted(int[] sorted) {
+        if (tracing) listener.onStart("distinctSorted");
+        int count = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[i - 1]) {
+                count++;
+            }
+        }
+        int[] result = new int[count];
+        int write = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                result[write++] = sorted[i];
+            }
+        }
+        if (tracing) listener.onArray("distinctSorted", result, 0, count);
+        return result;
+    }
+
+    // Rotates right by k in-place (juggling algorithm) — O(n), no allocation
+    public void rotateInPlace(int[] arr, int k) {
+        if (tracing) listener.onStart("rotateInPlace");
+        ArrayRotations.rotateRight(arr, k);
+        if (tracing) listener.onArray("rotateInPlace", arr, 0, arr.length);
+    }
+
+    // Returns a new array rotated right by k — two System.arraycopy calls, one allocation
+    public int[] rotated(int[] arr, int k) {
+        if (tracing) listener.onStart("rotated");
+        int length = arr.length;
+        int[] result = new int[length];
+        if (length > 0) {
+            k = ArrayRotations.normalizeShift(k, length);
+            System.arraycopy(arr, length - k, result, 0, k);
+            System.arraycopy(arr, 0, result, k, length - k);
+        }
+        if (tracing) listener.onArray("rotated", result, 0, length);
+        return result;
+    }
+
+    private static void requireNotEmpty(int[] arr) {
+        if (arr.length == 0) {
+            throw new IllegalArgumentException("Array is empty");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.javacorepractice.foundation.arrays;
+
+/*
+ Optional observer for IntArrayOps.
+ All methods are no-op defaults: a listener overrides only the events it needs.
+ IntArrayOps checks for NONE before producing any event, so with NONE
+ the algorithms do not build strings or print anything.
+*/
+public interface IntArrayTraceListener {
+
+    IntArrayTraceListener NONE = new IntArrayTraceListener() {
+    };
+
+    // Called once at the start of every operation
+    default void onStart(String method) {
+    }
+
+    // Binary search: one call per inspected index
+    default void onProbe(String method, int index, int value) {
+    }
+
+    // Search result: index >= 0 if found, negative if not found
+    default void onIndex(String method, int target, int index) {
+    }
+
+    default void onMinMax(MinMax result) {
+    }
+
+    // Array result: only the range [from, to) of 'array' is meaningful
+    default void onArray(String method, int[] array, int from, int to) {
+    }
+}
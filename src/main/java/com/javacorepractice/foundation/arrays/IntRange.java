@@ -0,0 +1,47 @@
+package com.javacorepractice.foundation.arrays;
+
+// Half-open index range [from, to) — result of SortedIntIndex.equalRange
+public final class IntRange {
+
+    private final int from;
+    private final int to;
+
+    public IntRange(int from, int to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    public int size() {
+        return to - from;
+    }
+
+    public boolean isEmpty() {
+        return from == to;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntRange)) return false;
+        IntRange other = (IntRange) o;
+        return from == other.from && to == other.to;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * from + to;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + from + ", " + to + ")";
+    }
+}
@@ -0,0 +1,396 @@
+package com.javacorepractice.foundation.arrays;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/*
+ Sorted set of long keys (int keys widen for free) for floor / ceiling / range queries —
+ the navigation methods of TreeMap in MapExamples.treeMapDemo without boxing and tree nodes.
+
+ Memory: 8 bytes per key (+ 1/64 for fences) vs ~40 bytes of TreeMap.Entry + a boxed key.
+
+ Layout: sorted-array-plus-delta-buffer
+ - main:   one sorted long[] — a range scan is a sequential read, prefetcher-friendly
+ - fences: every 64th key of main; a lookup binary-searches the small fence array (stays in
+           cache), then one 64-key block (512 bytes = 8 cache lines) instead of jumping
+           across the whole array
+ - delta:  small sorted buffer for single inserts (~sqrt(n) keys); when full it is
+           merged into main in one O(n) pass
+ Reads look at both arrays and merge them on the fly.
+
+ Costs: bulkLoad O(n), contains/floor/ceiling O(log n), range iteration O(log n + k),
+ add amortized O(sqrt n), addAll merge O(n + m log m).
+ No removal. Not thread-safe.
+*/
+public class LongRangeIndex {
+
+    private static final int BLOCK_SHIFT = 6;
+    private static final int MIN_DELTA = 64;
+    private static final int MAX_DELTA = 1 << 16;
+
+    private long[] main;
+    private int mainSize;
+    private long[] fences;
+    private long[] delta;
+    private int deltaSize;
+
+    private LongRangeIndex(long[] main, int mainSize) {
+        this.main = main;
+        this.mainSize = mainSize;
+        rebuild();
+    }
+
+    public LongRangeIndex() {
+        this(new long[0], 0);
+    }
+
+    // O(n) build from keys already sorted ascending (duplicates are dropped); the array is copied
+    public static LongRangeIndex bulkLoad(long[] sorted) {
+        long[] keys = new long[sorted.length];
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0 && sorted[i] < sorted[i - 1]) {
+                throw new IllegalArgumentException("Keys are not sorted at index " + i);
+            }
+            if (size == 0 || keys[size - 1] != sorted[i]) {
+                keys[size++] = sorted[i];
+            }
+        }
+        return new LongRangeIndex(keys, size);
+    }
+
+    public static LongRangeIndex bulkLoad(int[] sorted) {
+        long[] keys = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = sorted[i];
+        }
+        return bulkLoad(keys);
+    }
+
+    // Any order; sorts a copy
+    public static LongRangeIndex of(long... keys) {
+        long[] copy = Arrays.copyOf(keys, keys.length);
+        Arrays.sort(copy);
+        return bulkLoad(copy);
+    }
+
+    public int size() {
+        return mainSize + deltaSize;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean contains(long key) {
+        int m = mainLowerBound(key);
+        if (m < mainSize && main[m] == key) {
+            return true;
+        }
+        int d = deltaLowerBound(key);
+        return d < deltaSize && delta[d] == key;
+    }
+
+    // Returns false if the key was already present
+    public boolean add(long key) {
+        int m = mainLowerBound(key);
+        if (m < mainSize && main[m] == key) {
+            return false;
+        }
+        int d = deltaLowerBound(key);
+        if (d < deltaSize && delta[d] == key) {
+            return false;
+        }
+        System.arraycopy(delta, d, delta, d + 1, deltaSize - d);
+        delta[d] = key;
+        if (++deltaSize == delta.length) {
+            compact();
+        }
+        return true;
+    }
+
+    /*
+     Batch insert: sorts a copy of the keys, then merges main + delta + batch in one pass.
+     O(n + m log m) — for large batches much cheaper than m single inserts.
+     Returns the number of keys that were not present before.
+    */
+    public int addAll(long[] keys) {
+        long[] batch = Arrays.copyOf(keys, keys.length);
+        Arrays.sort(batch);
+        int before = size();
+        long[] merged = new long[mainSize + deltaSize + batch.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < mainSize || j < deltaSize || k < batch.length) {
+            long next = Long.MAX_VALUE;
+            int source = -1;
+            if (i < mainSize) {
+                next = main[i];
+                source = 0;
+            }
+            if (j < deltaSize && (source < 0 || delta[j] < next)) {
+                next = delta[j];
+                source = 1;
+            }
+            if (k < batch.length && (source < 0 || batch[k] < next)) {
+                next = batch[k];
+                source = 2;
+            }
+            if (source == 0) {
+                i++;
+            } else if (source == 1) {
+                j++;
+            } else {
+                k++;
+            }
+            if (n == 0 || merged[n - 1] != next) {
+                merged[n++] = next;
+            }
+        }
+        main = merged;
+        mainSize = n;
+        rebuild();
+        return n - before;
+    }
+
+    // Merges the delta buffer into the main array now (also done automatically when it is full)
+    public void compact() {
+        if (deltaSize == 0) {
+            return;
+        }
+        long[] merged = new long[mainSize + deltaSize];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < mainSize && j < deltaSize) {
+            merged[n++] = main[i] < delta[j] ? main[i++] : delta[j++];
+        }
+        System.arraycopy(main, i, merged, n, mainSize - i);
+        n += mainSize - i;
+        System.arraycopy(delta, j, merged, n, deltaSize - j);
+        main = merged;
+        mainSize = merged.length;
+        rebuild();
+    }
+
+    public long first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        if (mainSize == 0) {
+            return delta[0];
+        }
+        return deltaSize == 0 ? main[0] : Math.min(main[0], delta[0]);
+    }
+
+    public long last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        if (mainSize == 0) {
+            return delta[deltaSize - 1];
+        }
+        return deltaSize == 0 ? main[mainSize - 1] : Math.max(main[mainSize - 1], delta[deltaSize - 1]);
+    }
+
+    // Smallest key >= key, or defaultValue if there is none
+    public long ceilingOrDefault(long key, long defaultValue) {
+        int m = mainLowerBound(key);
+        int d = deltaLowerBound(key);
+        if (m == mainSize) {
+            return d == deltaSize ? defaultValue : delta[d];
+        }
+        return d == deltaSize ? main[m] : Math.min(main[m], delta[d]);
+    }
+
+    // Smallest key > key, or defaultValue
+    public long higherOrDefault(long key, long defaultValue) {
+        return key == Long.MAX_VALUE ? defaultValue : ceilingOrDefault(key + 1, defaultValue);
+    }
+
+    // Largest key <= key, or defaultValue
+    public long floorOrDefault(long key, long defaultValue) {
+        if (key == Long.MAX_VALUE) {
+            return isEmpty() ? defaultValue : last();
+        }
+        return lowerOrDefault(key + 1, defaultValue);
+    }
+
+    // Largest key < key, or defaultValue
+    public long lowerOrDefault(long key, long defaultValue) {
+        int m = mainLowerBound(key) - 1;
+        int d = deltaLowerBound(key) - 1;
+        if (m < 0) {
+            return d < 0 ? defaultValue : delta[d];
+        }
+        return d < 0 ? main[m] : Math.max(main[m], delta[d]);
+    }
+
+    // Number of keys in [fromInclusive, toExclusive), O(log n)
+    public int countInRange(long fromInclusive, long toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return 0;
+        }
+        return mainLowerBound(toExclusive) - mainLowerBound(fromInclusive)
+                + deltaLowerBound(toExclusive) - deltaLowerBound(fromInclusive);
+    }
+
+    // Ascending keys in [fromInclusive, toExclusive) — subSet / subMap(from, true, to, false) without boxing
+    public void forEachInRange(long fromInclusive, long toExclusive, LongConsumer action) {
+        if (fromInclusive >= toExclusive) {
+            return;
+        }
+        int i = mainLowerBound(fromInclusive);
+        int j = deltaLowerBound(fromInclusive);
+        long[] main = this.main;
+        long[] delta = this.delta;
+        while (true) {
+            long next;
+            if (i < mainSize && (j == deltaSize || main[i] < delta[j])) {
+                next = main[i++];
+            } else if (j < deltaSize) {
+                next = delta[j++];
+            } else {
+                return;
+            }
+            if (next >= toExclusive) {
+                return;
+            }
+            action.accept(next);
+        }
+    }
+
+    public void forEach(LongConsumer action) {
+        if (!isEmpty()) {
+            forEachInRange(first(), Long.MAX_VALUE, action);
+            if (last() == Long.MAX_VALUE) {
+                action.accept(Long.MAX_VALUE);
+            }
+        }
+    }
+
+    // Lazy ascending iterator over [fromInclusive, toExclusive); the index must not change meanwhile
+    public PrimitiveIterator.OfLong rangeIterator(long fromInclusive, long toExclusive) {
+        return new RangeIterator(fromInclusive, toExclusive);
+    }
+
+    // Keys in [fromInclusive, toExclusive) as a new array
+    public long[] toArray(long fromInclusive, long toExclusive) {
+        long[] result = new long[countInRange(fromInclusive, toExclusive)];
+        int[] n = {0};
+        forEachInRange(fromInclusive, toExclusive, key -> result[n[0]++] = key);
+        return result;
+    }
+
+    public long[] toArray() {
+        compact();
+        return Arrays.copyOf(main, mainSize);
+    }
+
+    private final class RangeIterator implements PrimitiveIterator.OfLong {
+        private final long toExclusive;
+        private int i;
+        private int j;
+
+        RangeIterator(long fromInclusive, long toExclusive) {
+            this.toExclusive = toExclusive;
+            this.i = mainLowerBound(fromInclusive);
+            this.j = deltaLowerBound(fromInclusive);
+            if (fromInclusive >= toExclusive) {
+                i = mainSize;
+                j = deltaSize;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return peek() < toExclusive && (i < mainSize || j < deltaSize);
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (i < mainSize && (j == deltaSize || main[i] < delta[j])) {
+                return main[i++];
+            }
+            return delta[j++];
+        }
+
+        private long peek() {
+            if (i < mainSize && (j == deltaSize || main[i] < delta[j])) {
+                return main[i];
+            }
+            return j < deltaSize ? delta[j] : Long.MAX_VALUE;
+        }
+    }
+
+    // First position in main with key >= key: fence search, then one block
+    private int mainLowerBound(long key) {
+        long[] fences = this.fences;
+        int lo = 0;
+        int hi = fences.length;
+        while (lo < hi) {  // number of fences <= key
+            int mid = (lo + hi) >>> 1;
+            if (fences[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        if (lo == 0) {
+            return 0;
+        }
+        int from = (lo - 1) << BLOCK_SHIFT;
+        return lowerBound(main, from, Math.min(from + (1 << BLOCK_SHIFT), mainSize), key);
+    }
+
+    private int deltaLowerBound(long key) {
+        return lowerBound(delta, 0, deltaSize, key);
+    }
+
+    private static int lowerBound(long[] a, int from, int to, long key) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Fences and an empty delta buffer sized for the new main array
+    private void rebuild() {
+        int blocks = (mainSize + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT;
+        fences = new long[blocks];
+        for (int b = 0; b < blocks; b++) {
+            fences[b] = main[b << BLOCK_SHIFT];
+        }
+        int capacity = (int) Math.min(MAX_DELTA, Math.max(MIN_DELTA, (long) Math.sqrt(mainSize)));
+        if (delta == null || delta.length != capacity) {
+            delta = new long[capacity];
+        }
+        deltaSize = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        forEach(key -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key);
+        });
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,39 @@
+package com.javacorepractice.foundation.arrays;
+
+// Immutable result of IntArrayOps.minMax — both values are found in one pass
+public final class MinMax {
+
+    private final int min;
+    private final int max;
+
+    public MinMax(int min, int max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MinMax)) return false;
+        MinMax other = (MinMax) o;
+        return min == other.min && max == other.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * min + max;
+    }
+
+    @Override
+    public String toString() {
+        return "Min: " + min + " Max: " + max;
+    }
+}
@@ -0,0 +1,274 @@
+package com.javacorepractice.foundation.arrays;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ Fork/join versions of the ArrayAlgorithms reductions and searches.
+ The array is split in halves until a range is not larger than 'threshold',
+ small ranges are processed by a plain loop, partial results are combined on the way up.
+
+ Parallel execution pays off only for large arrays: below the threshold the whole
+ call runs in the caller thread without touching the pool.
+ The crossover point depends on the host — see ParallelCrossoverBenchmark.
+*/
+public class ParallelIntArrayOps {
+
+    // 64K ints = 256 KB per leaf — large enough to hide task overhead
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelIntArrayOps() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelIntArrayOps(int threshold) {
+        this(ForkJoinPool.commonPool(), threshold);
+    }
+
+    public ParallelIntArrayOps(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    // Sum accumulated in long, never overflows for int[] input
+    public long sum(int[] arr) {
+        if (arr.length <= threshold) {
+            return SumTask.sumRange(arr, 0, arr.length);
+        }
+        return pool.invoke(new SumTask(arr, 0, arr.length, threshold));
+    }
+
+    // NaN for an empty array
+    public double average(int[] arr) {
+        return (double) sum(arr) / arr.length;
+    }
+
+    // Throws IllegalArgumentException for an empty array
+    public MinMax minMax(int[] arr) {
+        if (arr.length == 0) {
+            throw new IllegalArgumentException("Array is empty");
+        }
+        if (arr.length <= threshold) {
+            return MinMaxTask.minMaxRange(arr, 0, arr.length);
+        }
+        return pool.invoke(new MinMaxTask(arr, 0, arr.length, threshold));
+    }
+
+    // All indexes of target in ascending order (empty array if none)
+    public int[] indexesOf(int[] arr, int target) {
+        if (arr.length <= threshold) {
+            return IndexesOfTask.indexesInRange(arr, 0, arr.length, target);
+        }
+        return pool.invoke(new IndexesOfTask(arr, 0, arr.length, target, threshold));
+    }
+
+    /*
+     First index of target, or -1 ("first match" mode).
+     Subtasks share the best index found so far and skip ranges that start after it,
+     so once a match is found near the beginning the remaining work is cut off early.
+    */
+    public int indexOf(int[] arr, int target) {
+        if (arr.length <= threshold) {
+            return IndexOfTask.indexInRange(arr, 0, arr.length, target, Integer.MAX_VALUE);
+        }
+        AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+        pool.invoke(new IndexOfTask(arr, 0, arr.length, target, threshold, best));
+        int index = best.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    static final class SumTask extends RecursiveTask<Long> {
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        SumTask(int[] arr, int from, int to, int threshold) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= threshold) {
+                return sumRange(arr, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            SumTask left = new SumTask(arr, from, mid, threshold);
+            left.fork(); // left half goes to the queue, right half runs in this thread
+            long right = new SumTask(arr, mid, to, threshold).compute();
+            return left.join() + right;
+        }
+
+        static long sumRange(int[] arr, int from, int to) {
+            long sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += arr[i];
+            }
+            return sum;
+        }
+    }
+
+    static final class MinMaxTask extends RecursiveTask<MinMax> {
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        MinMaxTask(int[] arr, int from, int to, int threshold) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected MinMax compute() {
+            if (to - from <= threshold) {
+                return minMaxRange(arr, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            MinMaxTask left = new MinMaxTask(arr, from, mid, threshold);
+            left.fork();
+            MinMax right = new MinMaxTask(arr, mid, to, threshold).compute();
+            MinMax leftResult = left.join();
+            return new MinMax(Math.min(leftResult.getMin(), right.getMin()),
+                    Math.max(leftResult.getMax(), right.getMax()));
+        }
+
+        // Range must not be empty
+        static MinMax minMaxRange(int[] arr, int from, int to) {
+            int min = arr[from];
+            int max = arr[from];
+            for (int i = from + 1; i < to; i++) {
+                int value = arr[i];
+                if (value < min) {
+                    min = value;
+                } else if (value > max) {
+                    max = value;
+                }
+            }
+            return new MinMax(min, max);
+        }
+    }
+
+    static final class IndexesOfTask extends RecursiveTask<int[]> {
+        private static final int[] EMPTY = new int[0];
+
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int target;
+        private final int threshold;
+
+        IndexesOfTask(int[] arr, int from, int to, int target, int threshold) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.target = target;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= threshold) {
+                return indexesInRange(arr, from, to, target);
+            }
+            int mid = (from + to) >>> 1;
+            IndexesOfTask left = new IndexesOfTask(arr, from, mid, target, threshold);
+            left.fork();
+            int[] right = new IndexesOfTask(arr, mid, to, target, threshold).compute();
+            int[] leftResult = left.join();
+            // Left indexes are all smaller than right ones — concatenation keeps the order
+            if (leftResult.length == 0) return right;
+            if (right.length == 0) return leftResult;
+            int[] merged = new int[leftResult.length + right.length];
+            System.arraycopy(leftResult, 0, merged, 0, leftResult.length);
+            System.arraycopy(right, 0, merged, leftResult.length, right.length);
+            return merged;
+        }
+
+        static int[] indexesInRange(int[] arr, int from, int to, int target) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (arr[i] == target) {
+                    count++;
+                }
+            }
+            if (count == 0) {
+                return EMPTY;
+            }
+            int[] result = new int[count];
+            int write = 0;
+            for (int i = from; write < count; i++) {
+                if (arr[i] == target) {
+                    result[write++] = i;
+                }
+            }
+            return result;
+        }
+    }
+
+    static final class IndexOfTask extends RecursiveTask<Void> {
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int target;
+        private final int threshold;
+        private final AtomicInteger best;
+
+        IndexOfTask(int[] arr, int from, int to, int target, int threshold, AtomicInteger best) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.target = target;
+            this.threshold = threshold;
+            this.best = best;
+        }
+
+        @Override
+        protected Void compute() {
+            // A match before this range is already known — nothing here can be "first"
+            if (from >= best.get()) {
+                return null;
+            }
+            if (to - from <= threshold) {
+                int index = indexInRange(arr, from, to, target, best.get());
+                if (index >= 0) {
+                    best.accumulateAndGet(index, Math::min);
+                }
+                return null;
+            }
+            int mid = (from + to) >>> 1;
+            IndexOfTask right = new IndexOfTask(arr, mid, to, target, threshold, best);
+            right.fork(); // left half runs first in this thread, it is the likely winner
+            new IndexOfTask(arr, from, mid, target, threshold, best).compute();
+            right.join();
+            return null;
+        }
+
+        // First index in [from, min(to, limit)), or -1
+        static int indexInRange(int[] arr, int from, int to, int target, int limit) {
+            int end = Math.min(to, limit);
+            for (int i = from; i < end; i++) {
+                if (arr[i] == target) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
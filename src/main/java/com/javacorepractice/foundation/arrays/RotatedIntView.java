@@ -0,0 +1,80 @@
+package com.javacorepractice.foundation.arrays;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/*
+ Read-only view of arr[from, to) rotated right by k — nothing is copied or moved.
+ get(i) remaps the index: O(1) per access, O(1) to create,
+ and rotating the view again (rotatedBy) only changes the shift.
+ Changes in the underlying array are visible through the view.
+*/
+public final class RotatedIntView {
+
+    private final int[] arr;
+    private final int from;
+    private final int length;
+    private final int shift; // normalized right shift, 0 .. length - 1
+
+    private RotatedIntView(int[] arr, int from, int length, int shift) {
+        this.arr = arr;
+        this.from = from;
+        this.length = length;
+        this.shift = shift;
+    }
+
+    public static RotatedIntView of(int[] arr, int k) {
+        return of(arr, 0, arr.length, k);
+    }
+
+    public static RotatedIntView of(int[] arr, int from, int to, int k) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int length = to - from;
+        return new RotatedIntView(arr, from, length, length == 0 ? 0 : ArrayRotations.normalizeShift(k, length));
+    }
+
+    public int size() {
+        return length;
+    }
+
+    // Element i of the rotated sequence: arr[from + (i - shift) mod length]
+    public int get(int i) {
+        Objects.checkIndex(i, length);
+        int source = i - shift;
+        if (source < 0) {
+            source += length;
+        }
+        return arr[from + source];
+    }
+
+    // A view of the same data rotated by k more positions
+    public RotatedIntView rotatedBy(int k) {
+        if (length == 0) {
+            return this;
+        }
+        return new RotatedIntView(arr, from, length, ArrayRotations.normalizeShift(shift + k % length, length));
+    }
+
+    // Visits the elements in rotated order: two plain sequential loops, no index math per element
+    public void forEach(IntConsumer action) {
+        int split = from + length - shift;
+        for (int i = split; i < from + length; i++) {
+            action.accept(arr[i]);
+        }
+        for (int i = from; i < split; i++) {
+            action.accept(arr[i]);
+        }
+    }
+
+    // Copies the rotated sequence with two System.arraycopy calls
+    public void copyTo(int[] dst, int dstPos) {
+        System.arraycopy(arr, from + length - shift, dst, dstPos, shift);
+        System.arraycopy(arr, from, dst, dstPos + shift, length - shift);
+    }
+
+    public int[] toArray() {
+        int[] result = new int[length];
+        copyTo(result, 0);
+        return result;
+    }
+}
@@ -0,0 +1,197 @@
+package com.javacorepractice.foundation.arrays;
+
+import com.javacorepractice.foundation.arrays.sort.AdaptiveSort;
+
+import java.util.Arrays;
+
+/*
+ Sorted, read-only index over int values: sort once, then answer any number of lookups.
+ ArrayAlgorithms.binarySearch copies and sorts the array on every call — O(n log n) per lookup;
+ here every lookup is O(log n) and the batch mode is O(m log m + m log(n/m)) for m keys.
+
+ All positions are indexes in the sorted order (0 .. size()).
+ - lowerBound(key): first position with value >= key
+ - upperBound(key): first position with value >  key
+ - equalRange(key): [lowerBound, upperBound)
+ - indexOf(key)   : lowerBound if the key is present, otherwise -(insertionPoint) - 1
+
+ Layout.EYTZINGER additionally stores the values in BFS (heap) order:
+ the first levels of the search tree sit next to each other in memory,
+ and the loop has no data-dependent branch (the next child is computed, not chosen),
+ which keeps probing cache- and branch-predictor-friendly for large arrays.
+*/
+public class SortedIntIndex {
+
+    public enum Layout {
+        SORTED,
+        EYTZINGER
+    }
+
+    private final int[] sorted;
+    private final Layout layout;
+    // 1-based Eytzinger tree and the sorted position of every node (EYTZINGER only)
+    private final int[] tree;
+    private final int[] treeRank;
+
+    private SortedIntIndex(int[] sorted, Layout layout) {
+        this.sorted = sorted;
+        this.layout = layout;
+        if (layout == Layout.EYTZINGER) {
+            tree = new int[sorted.length + 1];
+            treeRank = new int[sorted.length + 1];
+            fillTree(0, 1);
+        } else {
+            tree = null;
+            treeRank = null;
+        }
+    }
+
+    // Copies and sorts the values, the argument is not changed
+    public static SortedIntIndex of(int[] values) {
+        return of(values, Layout.SORTED);
+    }
+
+    public static SortedIntIndex of(int[] values, Layout layout) {
+        int[] copy = Arrays.copyOf(values, values.length);
+        new AdaptiveSort().sort(copy);
+        return new SortedIntIndex(copy, layout);
+    }
+
+    // Uses the array as is (no copy): it must be sorted ascending and must not be changed later
+    public static SortedIntIndex ofSorted(int[] sorted, Layout layout) {
+        return new SortedIntIndex(sorted, layout);
+    }
+
+    public int size() {
+        return sorted.length;
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
+    // Value at a sorted position
+    public int get(int position) {
+        return sorted[position];
+    }
+
+    public int lowerBound(int key) {
+        if (layout == Layout.EYTZINGER) {
+            return treeLowerBound(key);
+        }
+        return lowerBound(sorted, 0, sorted.length, key);
+    }
+
+    public int upperBound(int key) {
+        if (key == Integer.MAX_VALUE) {
+            return sorted.length;
+        }
+        return lowerBound(key + 1);
+    }
+
+    public IntRange equalRange(int key) {
+        int from = lowerBound(key);
+        if (from == sorted.length || sorted[from] != key) {
+            return new IntRange(from, from);
+        }
+        return new IntRange(from, upperBound(key));
+    }
+
+    public int count(int key) {
+        return equalRange(key).size();
+    }
+
+    public boolean contains(int key) {
+        int position = lowerBound(key);
+        return position < sorted.length && sorted[position] == key;
+    }
+
+    public int indexOf(int key) {
+        int position = lowerBound(key);
+        return position < sorted.length && sorted[position] == key ? position : -(position + 1);
+    }
+
+    /*
+     Batch lookup: result[i] = indexOf(keys[i]), in the original key order.
+     Keys are sorted together with their original positions (packed into one long),
+     then the sorted values are walked forward once; between neighbouring keys
+     the walk gallops (1, 2, 4, ... steps, then binary search inside the last step),
+     so dense batches cost O(n + m) and sparse ones O(m log(n/m)).
+    */
+    public int[] searchAll(int[] keys) {
+        int m = keys.length;
+        long[] order = new long[m];
+        for (int i = 0; i < m; i++) {
+            // key in the high 32 bits (signed order is kept), position in the low 32 bits
+            order[i] = ((long) keys[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        int[] result = new int[m];
+        int n = sorted.length;
+        int position = 0;
+        for (int i = 0; i < m; i++) {
+            int key = (int) (order[i] >> 32);
+            int slot = (int) order[i];
+            position = gallopLowerBound(position, n, key);
+            result[slot] = position < n && sorted[position] == key ? position : -(position + 1);
+        }
+        return result;
+    }
+
+    // Lower bound in [from, n), assuming all values before 'from' are smaller than key
+    private int gallopLowerBound(int from, int n, int key) {
+        if (from >= n || sorted[from] >= key) {
+            return from;
+        }
+        // sorted[from] < key: find a step where the value becomes >= key
+        int low = from;
+        int step = 1;
+        int high = from + step;
+        while (high < n && sorted[high] < key) {
+            low = high;
+            step <<= 1;
+            high = from + step;
+        }
+        // sorted[low] < key, answer is in (low, min(high, n)]
+        return lowerBound(sorted, low + 1, Math.min(high, n), key);
+    }
+
+    // Classic binary lower bound over [from, to)
+    static int lowerBound(int[] arr, int from, int to, int key) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Branchless descent: go right when the node is smaller than key, left otherwise
+    private int treeLowerBound(int key) {
+        int n = sorted.length;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        }
+        // drop the trailing "went right" steps and the last "went left" step
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? n : treeRank[k];
+    }
+
+    // In-order traversal of the implicit tree assigns sorted values to BFS positions
+    private int fillTree(int next, int k) {
+        if (k <= sorted.length) {
+            next = fillTree(next, 2 * k);
+            tree[k] = sorted[next];
+            treeRank[k] = next;
+            next = fillTree(next + 1, 2 * k + 1);
+        }
+        return next;
+    }
+}
@@ -0,0 +1,62 @@
+package com.javacorepractice.foundation.arrays.sort;
+
+/*
+ Default strategy: chooses an algorithm per call.
+ - up to 47 elements                    -> InsertionSort (same cut-off the JDK uses internally)
+ - 4096+ elements, value range < 2^16   -> LsdRadixSort with only 2 passes
+ - 2^17+ elements and more than 1 core  -> Arrays.parallelSort
+ - everything else                      -> Arrays.sort (dual-pivot quicksort)
+ The range check is one extra O(n) pass, done only when radix sort is a candidate.
+*/
+public class AdaptiveSort implements IntSortStrategy {
+
+    static final int INSERTION_MAX = 47;
+    static final int RADIX_MIN = 1 << 12;
+    static final long RADIX_MAX_RANGE = 1 << 16;
+    static final int PARALLEL_MIN = 1 << 17;
+
+    private final IntSortStrategy insertion = new InsertionSort();
+    private final IntSortStrategy radix = new LsdRadixSort();
+    private final IntSortStrategy parallel = new ParallelArraysSort();
+    private final IntSortStrategy dualPivot = new DualPivotSort();
+    private final boolean multiCore = Runtime.getRuntime().availableProcessors() > 1;
+
+    @Override
+    public void sort(int[] arr, int from, int to) {
+        choose(arr, from, to).sort(arr, from, to);
+    }
+
+    // Visible for benchmarks and demos: which algorithm would be used for this range
+    public IntSortStrategy choose(int[] arr, int from, int to) {
+        int length = to - from;
+        if (length <= INSERTION_MAX) {
+            return insertion;
+        }
+        if (length >= RADIX_MIN && range(arr, from, to) < RADIX_MAX_RANGE) {
+            return radix;
+        }
+        if (length >= PARALLEL_MIN && multiCore) {
+            return parallel;
+        }
+        return dualPivot;
+    }
+
+    private static long range(int[] arr, int from, int to) {
+        int min = arr[from];
+        int max = arr[from];
+        for (int i = from + 1; i < to; i++) {
+            int value = arr[i];
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+        return (long) max - min;
+    }
+
+    @Override
+    public String name() {
+        return "adaptive";
+    }
+}
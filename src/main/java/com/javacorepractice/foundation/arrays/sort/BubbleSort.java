@@ -0,0 +1,30 @@
+package com.javacorepractice.foundation.arrays.sort;
+
+// Bubble Sort — repeatedly compares adjacent elements and swaps them, O(n²)
+public class BubbleSort implements IntSortStrategy {
+
+    @Override
+    public void sort(int[] arr, int from, int to) {
+        int length = to - from;
+        boolean flag;
+        for (int i = 0; i < length - 1; i++) {
+            flag = false;
+            int end = to - i - 1;
+            for (int j = from; j < end; j++) {
+                if (arr[j] > arr[j + 1]) {
+                    int temp = arr[j];
+                    arr[j] = arr[j + 1];
+                    arr[j + 1] = temp;
+                    flag = true;
+                }
+            }
+            // Optimization: if no swaps happened, array is already sorted
+            if (!flag) break;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "bubble";
+    }
+}
@@ -0,0 +1,17 @@
+package com.javacorepractice.foundation.arrays.sort;
+
+import java.util.Arrays;
+
+// Arrays.sort — JDK dual-pivot quicksort, O(n log n), no extra memory for int[]
+public class DualPivotSort implements IntSortStrategy {
+
+    @Override
+    public void sort(int[] arr, int from, int to) {
+        Arrays.sort(arr, from, to);
+    }
+
+    @Override
+    public String name() {
+        return "dualPivot";
+    }
+}
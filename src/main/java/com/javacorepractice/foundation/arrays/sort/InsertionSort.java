@@ -0,0 +1,25 @@
+package com.javacorepractice.foundation.arrays.sort;
+
+// Insertion Sort — O(n²) in general, O(n) for already sorted input.
+// Best choice for tiny ranges: no allocation and very few instructions per element.
+public class InsertionSort implements IntSortStrategy {
+
+    @Override
+    public void sort(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            // shift all elements bigger than key to the right
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "insertion";
+    }
+}
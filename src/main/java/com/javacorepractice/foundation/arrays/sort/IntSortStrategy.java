@@ -0,0 +1,23 @@
+package com.javacorepractice.foundation.arrays.sort;
+
+/*
+ Sorting algorithm for int[] — ascending, in-place, over the range [from, to).
+ Implementations:
+ - BubbleSort         O(n²), the original ArrayAlgorithms.sortArray, kept for comparison
+ - InsertionSort      O(n²), but the fastest for tiny arrays (no recursion, no buffers)
+ - LsdRadixSort       O(n * bytes), not comparison-based, needs an n-sized buffer
+ - ParallelMergeSort  O(n log n), fork/join, stable
+ - DualPivotSort      Arrays.sort (dual-pivot quicksort)
+ - ParallelArraysSort Arrays.parallelSort
+ - AdaptiveSort       picks one of the above by size and value range (default)
+*/
+public interface IntSortStrategy {
+
+    void sort(int[] arr, int from, int to);
+
+    default void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    String name();
+}
@@ -0,0 +1,84 @@
+package com.javacorepractice.foundation.arrays.sort;
+
+import java.util.Arrays;
+
+/*
+ LSD (least significant digit first) radix sort, 8-bit digits — O(n * passes).
+ Values are shifted by the minimum (value - min, read as unsigned),
+ which handles negative numbers and skips high bytes that are equal for all keys:
+ values in a range below 2^16 need only 2 passes instead of 4.
+ Each pass is a stable counting sort into an n-sized buffer.
+*/
+public class LsdRadixSort implements IntSortStrategy {
+
+    private static final int RADIX = 256;
+
+    @Override
+    public void sort(int[] arr, int from, int to) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        int min = arr[from];
+        int max = arr[from];
+        for (int i = from + 1; i < to; i++) {
+            int value = arr[i];
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+        int passes = passesForRange((long) max - min);
+        if (passes == 0) {
+            return; // all values are equal
+        }
+
+        int[] src = arr;
+        int srcFrom = from;
+        int[] dst = new int[length];
+        int dstFrom = 0;
+        int[] count = new int[RADIX + 1];
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * 8;
+            Arrays.fill(count, 0);
+            for (int i = 0; i < length; i++) {
+                count[(((src[srcFrom + i] - min) >>> shift) & 0xFF) + 1]++;
+            }
+            // prefix sums -> start position of every digit
+            for (int d = 0; d < RADIX; d++) {
+                count[d + 1] += count[d];
+            }
+            for (int i = 0; i < length; i++) {
+                int value = src[srcFrom + i];
+                dst[dstFrom + count[((value - min) >>> shift) & 0xFF]++] = value;
+            }
+            // swap roles of the arrays for the next pass
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpFrom = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = tmpFrom;
+        }
+        // after an odd number of passes the result is in the buffer
+        if (src != arr) {
+            System.arraycopy(src, srcFrom, arr, from, length);
+        }
+    }
+
+    // Number of 8-bit digits needed for keys in [0, range]
+    static int passesForRange(long range) {
+        int passes = 0;
+        while (range > 0) {
+            passes++;
+            range >>>= 8;
+        }
+        return passes;
+    }
+
+    @Override
+    public String name() {
+        return "radix";
+    }
+}
@@ -0,0 +1,18 @@
+package com.javacorepractice.foundation.arrays.sort;
+
+import java.util.Arrays;
+
+// Arrays.parallelSort — JDK parallel sort-merge on the common ForkJoinPool
+// (falls back to Arrays.sort below 8192 elements or on a single core)
+public class ParallelArraysSort implements IntSortStrategy {
+
+    @Override
+    public void sort(int[] arr, int from, int to) {
+        Arrays.parallelSort(arr, from, to);
+    }
+
+    @Override
+    public String name() {
+        return "parallelArrays";
+    }
+}
@@ -0,0 +1,98 @@
+package com.javacorepractice.foundation.arrays.sort;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ Merge sort on fork/join — O(n log n), needs one n-sized buffer for the whole sort.
+ Halves are sorted in parallel down to 'threshold' elements, then sorted sequentially
+ and merged back up. If the two halves are already in order the merge is skipped.
+*/
+public class ParallelMergeSort implements IntSortStrategy {
+
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelMergeSort(ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold must be at least 2: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void sort(int[] arr, int from, int to) {
+        if (to - from <= threshold) {
+            Arrays.sort(arr, from, to);
+            return;
+        }
+        int[] buffer = new int[to - from];
+        pool.invoke(new MergeSortTask(arr, buffer, from, to, from, threshold));
+    }
+
+    @Override
+    public String name() {
+        return "parallelMerge";
+    }
+
+    static final class MergeSortTask extends RecursiveAction {
+        private final int[] arr;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final int bufferOffset; // buffer[0] corresponds to arr[bufferOffset]
+        private final int threshold;
+
+        MergeSortTask(int[] arr, int[] buffer, int from, int to, int bufferOffset, int threshold) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.bufferOffset = bufferOffset;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                Arrays.sort(arr, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MergeSortTask(arr, buffer, from, mid, bufferOffset, threshold),
+                    new MergeSortTask(arr, buffer, mid, to, bufferOffset, threshold));
+            if (arr[mid - 1] <= arr[mid]) {
+                return; // halves are already in order
+            }
+            merge(mid);
+        }
+
+        // Left half is copied to the buffer and merged back into arr — stable
+        private void merge(int mid) {
+            int leftLength = mid - from;
+            int b = from - bufferOffset;
+            System.arraycopy(arr, from, buffer, b, leftLength);
+            int i = b;
+            int iEnd = b + leftLength;
+            int j = mid;
+            int write = from;
+            while (i < iEnd && j < to) {
+                if (arr[j] < buffer[i]) {
+                    arr[write++] = arr[j++];
+                } else {
+                    arr[write++] = buffer[i++];
+                }
+            }
+            // the rest of the right half is already in place
+            System.arraycopy(buffer, i, arr, write, iEnd - i);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.javacorepractice.foundation.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Sorted char[] of up to 4096 values; turns into a BitmapContainer beyond that
+final class ArrayContainer extends Container {
+
+    private char[] content;
+    private int cardinality;
+
+    ArrayContainer() {
+        content = new char[4];
+    }
+
+    private ArrayContainer(char[] content, int cardinality) {
+        this.content = content;
+        this.cardinality = cardinality;
+    }
+
+    static ArrayContainer fromWords(long[] words, int cardinality) {
+        char[] content = new char[cardinality];
+        int n = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                content[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(content, n);
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return Arrays.binarySearch(content, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    Container add(char value) {
+        int index = Arrays.binarySearch(content, 0, cardinality, value);
+        if (index >= 0) {
+            return this;
+        }
+        if (cardinality == MAX_ARRAY_SIZE) {
+            return new BitmapContainer(toWords(), cardinality).add(value);
+        }
+        index = -index - 1;
+        if (cardinality == content.length) {
+            content = Arrays.copyOf(content, Math.min(MAX_ARRAY_SIZE, cardinality * 2));
+        }
+        System.arraycopy(content, index, content, index + 1, cardinality - index);
+        content[index] = value;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        int index = Arrays.binarySearch(content, 0, cardinality, value);
+        if (index < 0) {
+            return this;
+        }
+        System.arraycopy(content, index + 1, content, index, cardinality - index - 1);
+        cardinality--;
+        return cardinality == 0 ? null : this;
+    }
+
+    @Override
+    int first() {
+        return content[0];
+    }
+
+    @Override
+    int last() {
+        return content[cardinality - 1];
+    }
+
+    @Override
+    int ceiling(char value) {
+        int index = Arrays.binarySearch(content, 0, cardinality, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index < cardinality ? content[index] : -1;
+    }
+
+    @Override
+    int floor(char value) {
+        int index = Arrays.binarySearch(content, 0, cardinality, value);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index >= 0 ? content[index] : -1;
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < cardinality; i++) {
+            action.accept(high | content[i]);
+        }
+    }
+
+    @Override
+    long[] toWords() {
+        long[] words = new long[WORDS];
+        for (int i = 0; i < cardinality; i++) {
+            char value = content[i];
+            words[value >>> 6] |= 1L << value;
+        }
+        return words;
+    }
+
+    @Override
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(content, Math.max(cardinality, 1)), cardinality);
+    }
+
+    @Override
+    int sizeInBytes() {
+        return 2 * cardinality;
+    }
+
+    // Keeps the values that the other container has: O(card) lookups, or a linear merge of two arrays
+    @Override
+    Container and(Container other) {
+        char[] result = new char[cardinality];
+        int n = 0;
+        if (other instanceof ArrayContainer) {
+            ArrayContainer o = (ArrayContainer) other;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < o.cardinality) {
+                char a = content[i];
+                char b = o.content[j];
+                if (a < b) {
+                    i++;
+                } else if (a > b) {
+                    j++;
+                } else {
+                    result[n++] = a;
+                    i++;
+                    j++;
+                }
+            }
+        } else {
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(content[i])) {
+                    result[n++] = content[i];
+                }
+            }
+        }
+        return n == 0 ? null : new ArrayContainer(result, n);
+    }
+
+    @Override
+    int andCardinality(Container other) {
+        int count = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (other.contains(content[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Linear merge when both are small arrays; bitmap words otherwise
+    @Override
+    Container or(Container other) {
+        if (!(other instanceof ArrayContainer) || cardinality + other.cardinality() > MAX_ARRAY_SIZE) {
+            return super.or(other);
+        }
+        ArrayContainer o = (ArrayContainer) other;
+        char[] result = new char[cardinality + o.cardinality];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < o.cardinality) {
+            char a = content[i];
+            char b = o.content[j];
+            if (a <= b) {
+                result[n++] = a;
+                i++;
+                if (a == b) {
+                    j++;
+                }
+            } else {
+                result[n++] = b;
+                j++;
+            }
+        }
+        while (i < cardinality) {
+            result[n++] = content[i++];
+        }
+        while (j < o.cardinality) {
+            result[n++] = o.content[j++];
+        }
+        return new ArrayContainer(result, n);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        char[] result = new char[cardinality];
+        int n = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (!other.contains(content[i])) {
+                result[n++] = content[i];
+            }
+        }
+        return n == 0 ? null : new ArrayContainer(result, n);
+    }
+}
@@ -0,0 +1,112 @@
+package com.javacorepractice.foundation.bitmap;
+
+import java.util.function.IntConsumer;
+
+// 65536-bit bitmap for dense chunks; turns back into an ArrayContainer at 4096 values or fewer
+final class BitmapContainer extends Container {
+
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    Container add(char value) {
+        long before = words[value >>> 6];
+        long after = before | (1L << value);
+        if (before != after) {
+            words[value >>> 6] = after;
+            cardinality++;
+        }
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        long before = words[value >>> 6];
+        long after = before & ~(1L << value);
+        if (before != after) {
+            words[value >>> 6] = after;
+            cardinality--;
+            if (cardinality <= MAX_ARRAY_SIZE) {
+                return ArrayContainer.fromWords(words, cardinality);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    int first() {
+        return ceiling((char) 0);
+    }
+
+    @Override
+    int last() {
+        return floor((char) 0xFFFF);
+    }
+
+    @Override
+    int ceiling(char value) {
+        int index = value >>> 6;
+        long word = words[index] & (-1L << value);
+        while (word == 0) {
+            if (++index == WORDS) {
+                return -1;
+            }
+            word = words[index];
+        }
+        return (index << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    int floor(char value) {
+        int index = value >>> 6;
+        long word = words[index] & (-1L >>> (63 - (value & 63)));
+        while (word == 0) {
+            if (--index < 0) {
+                return -1;
+            }
+            word = words[index];
+        }
+        return (index << 6) + 63 - Long.numberOfLeadingZeros(word);
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept(high | ((i << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    long[] toWords() {
+        return words.clone();
+    }
+
+    @Override
+    Container copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    int sizeInBytes() {
+        return 8 * WORDS;
+    }
+}
@@ -0,0 +1,148 @@
+package com.javacorepractice.foundation.bitmap;
+
+import java.util.function.IntConsumer;
+
+/*
+ Set of 16-bit values (the low half of an int) inside one RoaringIntSet chunk.
+ Three representations, chosen by what is smallest for the content:
+ - ArrayContainer:  sorted char[]               2 bytes per value, up to 4096 values
+ - BitmapContainer: long[1024] = 65536 bits     8 KB fixed, for dense chunks
+ - RunContainer:    (start, length - 1) pairs    4 bytes per run, for consecutive ids
+ Mutating methods may return a different container (e.g. array -> bitmap at 4097 values);
+ callers must store the returned instance. Methods returning ints use -1 for "none".
+*/
+abstract class Container {
+
+    static final int MAX_ARRAY_SIZE = 4096;
+    static final int WORDS = 1024;
+
+    abstract int cardinality();
+
+    abstract boolean contains(char value);
+
+    abstract Container add(char value);
+
+    // May return null when the container becomes empty
+    abstract Container remove(char value);
+
+    abstract int first();
+
+    abstract int last();
+
+    // Smallest value >= value, or -1
+    abstract int ceiling(char value);
+
+    // Largest value <= value, or -1
+    abstract int floor(char value);
+
+    // Calls action with high | value for every value, ascending
+    abstract void forEach(int high, IntConsumer action);
+
+    // 1024-word bitmap with the same content (a new array)
+    abstract long[] toWords();
+
+    abstract Container copy();
+
+    abstract int sizeInBytes();
+
+    Container and(Container other) {
+        if (other instanceof ArrayContainer) {
+            return other.and(this);
+        }
+        long[] words = toWords();
+        long[] otherWords = other.toWords();
+        for (int i = 0; i < WORDS; i++) {
+            words[i] &= otherWords[i];
+        }
+        return fromWords(words);
+    }
+
+    Container or(Container other) {
+        long[] words = toWords();
+        long[] otherWords = other.toWords();
+        for (int i = 0; i < WORDS; i++) {
+            words[i] |= otherWords[i];
+        }
+        return fromWords(words);
+    }
+
+    // this minus other; may return null
+    Container andNot(Container other) {
+        long[] words = toWords();
+        long[] otherWords = other.toWords();
+        for (int i = 0; i < WORDS; i++) {
+            words[i] &= ~otherWords[i];
+        }
+        return fromWords(words);
+    }
+
+    // Number of common values without building the result
+    int andCardinality(Container other) {
+        if (other instanceof ArrayContainer) {
+            return other.andCardinality(this);
+        }
+        long[] words = toWords();
+        long[] otherWords = other.toWords();
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            count += Long.bitCount(words[i] & otherWords[i]);
+        }
+        return count;
+    }
+
+    // Switches to the smallest of the three representations (counts runs in one pass over the bits)
+    Container runOptimize() {
+        long[] words = toWords();
+        int runs = countRuns(words);
+        int card = cardinality();
+        int runBytes = 4 * runs;
+        int arrayBytes = 2 * card;
+        int bitmapBytes = 8 * WORDS;
+        if (runBytes < Math.min(arrayBytes, bitmapBytes)) {
+            return this instanceof RunContainer ? this : RunContainer.fromWords(words, runs);
+        }
+        return card <= MAX_ARRAY_SIZE ? ArrayContainer.fromWords(words, card) : new BitmapContainer(words, card);
+    }
+
+    // Array or bitmap depending on cardinality, or null if empty
+    static Container fromWords(long[] words) {
+        int card = 0;
+        for (long word : words) {
+            card += Long.bitCount(word);
+        }
+        if (card == 0) {
+            return null;
+        }
+        return card <= MAX_ARRAY_SIZE ? ArrayContainer.fromWords(words, card) : new BitmapContainer(words, card);
+    }
+
+    // A run starts at every 1 bit whose left neighbour (lower bit) is 0
+    static int countRuns(long[] words) {
+        int runs = 0;
+        long carry = 0;  // top bit of the previous word
+        for (long word : words) {
+            runs += Long.bitCount(word & ~((word << 1) | carry));
+            carry = word >>> 63;
+        }
+        return runs;
+    }
+
+    static void setRange(long[] words, int from, int toExclusive) {
+        if (from >= toExclusive) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (toExclusive - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -toExclusive;
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+}
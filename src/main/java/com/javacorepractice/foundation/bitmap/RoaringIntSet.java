@@ -0,0 +1,362 @@
+package com.javacorepractice.foundation.bitmap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/*
+ Compressed sorted set of ints (Roaring bitmap layout) — for large id sets where
+ HashSet<Integer> / TreeSet<Integer> from SetExamples cost ~32-48 bytes per element.
+
+ An int is split into high 16 bits (chunk key) and low 16 bits (value inside the chunk).
+ Chunk keys are kept in a sorted int[]; each chunk has a Container for its low halves:
+ - sparse chunks: sorted char[]             -> 2 bytes per element
+ - dense chunks:  65536-bit bitmap (8 KB)   -> 1 bit per element
+ - consecutive ids after runOptimize():     -> 4 bytes per run
+ So 10^6 random ids in [0, 10^8) take ~2 MB, consecutive ids a few bytes.
+
+ union / intersection / difference work chunk by chunk: chunks present on one side only
+ are copied or skipped without looking inside, dense chunks are combined with 1024 word
+ operations (64 values per AND/OR), sparse ones by merging sorted arrays.
+ cardinality() is O(number of chunks): every container knows its size.
+
+ Iteration and navigation (first / last / ceiling / floor / higher / lower) follow the
+ signed int order, like TreeSet<Integer>.
+ Not thread-safe.
+*/
+public class RoaringIntSet {
+
+    private int[] keys;  // high 16 bits (signed), sorted
+    private Container[] containers;
+    private int chunkCount;
+    private long cardinality;
+
+    public RoaringIntSet() {
+        keys = new int[4];
+        containers = new Container[4];
+    }
+
+    public static RoaringIntSet of(int... values) {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        int index = chunkIndex(value >> 16);
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    // Returns false if already present
+    public boolean add(int value) {
+        int high = value >> 16;
+        int index = chunkIndex(high);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, high, new ArrayContainer());
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add((char) value);
+        int delta = containers[index].cardinality() - before;
+        cardinality += delta;
+        return delta != 0;
+    }
+
+    // Returns false if it was absent
+    public boolean remove(int value) {
+        int index = chunkIndex(value >> 16);
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        Container after = container.remove((char) value);
+        if (after == null) {
+            removeChunk(index);
+            cardinality -= before;
+            return true;
+        }
+        containers[index] = after;
+        cardinality -= before - after.cardinality();
+        return before != after.cardinality();
+    }
+
+    // Adds every value in [fromInclusive, toExclusive); ranges end up as run containers
+    public void addRange(int fromInclusive, int toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return;
+        }
+        long last = toExclusive - 1L;
+        for (long start = fromInclusive; start <= last; ) {
+            int high = (int) (start >> 16);
+            long chunkEnd = Math.min(last, ((long) high << 16) + 0xFFFF);
+            int index = chunkIndex(high);
+            long[] words;
+            if (index < 0) {
+                index = -index - 1;
+                insertChunk(index, high, null);
+                words = new long[Container.WORDS];
+            } else {
+                cardinality -= containers[index].cardinality();
+                words = containers[index].toWords();
+            }
+            Container.setRange(words, (int) (start & 0xFFFF), (int) (chunkEnd & 0xFFFF) + 1);
+            Container container = Container.fromWords(words).runOptimize();
+            containers[index] = container;
+            cardinality += container.cardinality();
+            start = chunkEnd + 1;
+        }
+    }
+
+    // Converts every chunk to its smallest representation (arrays/bitmaps -> runs where it pays off)
+    public void runOptimize() {
+        for (int i = 0; i < chunkCount; i++) {
+            containers[i] = containers[i].runOptimize();
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(containers, 0, chunkCount, null);
+        chunkCount = 0;
+        cardinality = 0;
+    }
+
+    public int first() {
+        if (chunkCount == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[0] << 16 | containers[0].first();
+    }
+
+    public int last() {
+        if (chunkCount == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[chunkCount - 1] << 16 | containers[chunkCount - 1].last();
+    }
+
+    // Smallest element >= value, or defaultValue
+    public int ceilingOrDefault(int value, int defaultValue) {
+        int high = value >> 16;
+        int index = chunkIndex(high);
+        if (index >= 0) {
+            int low = containers[index].ceiling((char) value);
+            if (low >= 0) {
+                return high << 16 | low;
+            }
+            index++;
+        } else {
+            index = -index - 1;
+        }
+        return index < chunkCount ? keys[index] << 16 | containers[index].first() : defaultValue;
+    }
+
+    // Largest element <= value, or defaultValue
+    public int floorOrDefault(int value, int defaultValue) {
+        int high = value >> 16;
+        int index = chunkIndex(high);
+        if (index >= 0) {
+            int low = containers[index].floor((char) value);
+            if (low >= 0) {
+                return high << 16 | low;
+            }
+            index--;
+        } else {
+            index = -index - 2;
+        }
+        return index >= 0 ? keys[index] << 16 | containers[index].last() : defaultValue;
+    }
+
+    public int higherOrDefault(int value, int defaultValue) {
+        return value == Integer.MAX_VALUE ? defaultValue : ceilingOrDefault(value + 1, defaultValue);
+    }
+
+    public int lowerOrDefault(int value, int defaultValue) {
+        return value == Integer.MIN_VALUE ? defaultValue : floorOrDefault(value - 1, defaultValue);
+    }
+
+    // Elements in both sets
+    public RoaringIntSet intersection(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendChunk(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Size of the intersection without materializing it
+    public long intersectionCardinality(RoaringIntSet other) {
+        long count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                count += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    // Elements in either set
+    public RoaringIntSet union(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || (i < chunkCount && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], containers[i].copy());
+                i++;
+            } else if (i == chunkCount || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Elements of this set that are not in the other
+    public RoaringIntSet difference(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int j = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            while (j < other.chunkCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.chunkCount && other.keys[j] == keys[i]) {
+                result.appendChunk(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.appendChunk(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    public int[] toArray() {
+        if (cardinality > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many elements for an array: " + cardinality);
+        }
+        int[] result = new int[(int) cardinality];
+        int[] n = {0};
+        forEach(value -> result[n[0]++] = value);
+        return result;
+    }
+
+    // Approximate memory of the containers and chunk arrays, for comparisons with HashSet/TreeSet
+    public long sizeInBytes() {
+        long bytes = 8L * keys.length;  // keys + container references
+        for (int i = 0; i < chunkCount; i++) {
+            bytes += 16 + containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    // Index of the chunk key, or -(insertion point) - 1
+    private int chunkIndex(int high) {
+        return Arrays.binarySearch(keys, 0, chunkCount, high);
+    }
+
+    private void insertChunk(int index, int high, Container container) {
+        if (chunkCount == keys.length) {
+            keys = Arrays.copyOf(keys, chunkCount * 2);
+            containers = Arrays.copyOf(containers, chunkCount * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunkCount - index);
+        System.arraycopy(containers, index, containers, index + 1, chunkCount - index);
+        keys[index] = high;
+        containers[index] = container;
+        chunkCount++;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, chunkCount - index - 1);
+        containers[--chunkCount] = null;
+    }
+
+    // Set operations produce chunks in ascending key order, so they are appended at the end
+    private void appendChunk(int high, Container container) {
+        if (container == null) {
+            return;
+        }
+        insertChunk(chunkCount, high, container);
+        cardinality += container.cardinality();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RoaringIntSet)) {
+            return false;
+        }
+        RoaringIntSet other = (RoaringIntSet) o;
+        if (cardinality != other.cardinality || chunkCount != other.chunkCount) {
+            return false;
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            if (keys[i] != other.keys[i]
+                    || !Arrays.equals(containers[i].toWords(), other.containers[i].toWords())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Same value as a java.util.Set<Integer> with the same elements (sum of element hashes)
+    @Override
+    public int hashCode() {
+        int[] h = {0};
+        forEach(value -> h[0] += value);
+        return h[0];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        forEach(value -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(value);
+        });
+        return sb.append(']').toString();
+    }
+}
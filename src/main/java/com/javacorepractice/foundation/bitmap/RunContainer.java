@@ -0,0 +1,158 @@
+package com.javacorepractice.foundation.bitmap;
+
+import java.util.function.IntConsumer;
+
+/*
+ Runs of consecutive values as (start, length - 1) char pairs, sorted by start.
+ Produced by runOptimize / addRange; a point add or remove that is not a no-op
+ converts it to an array or bitmap container first (call runOptimize again afterwards).
+*/
+final class RunContainer extends Container {
+
+    private final char[] runs;  // start0, len0, start1, len1, ...
+    private final int runCount;
+    private final int cardinality;
+
+    private RunContainer(char[] runs, int runCount, int cardinality) {
+        this.runs = runs;
+        this.runCount = runCount;
+        this.cardinality = cardinality;
+    }
+
+    static RunContainer fromWords(long[] words, int runCount) {
+        char[] runs = new char[2 * runCount];
+        int n = 0;
+        int cardinality = 0;
+        int position = 0;
+        while (position < 1 << 16) {
+            int start = nextBit(words, position, true);
+            if (start < 0) {
+                break;
+            }
+            int end = nextBit(words, start, false);  // first 0 after the run
+            if (end < 0) {
+                end = 1 << 16;
+            }
+            runs[2 * n] = (char) start;
+            runs[2 * n + 1] = (char) (end - start - 1);
+            n++;
+            cardinality += end - start;
+            position = end;
+        }
+        return new RunContainer(runs, n, cardinality);
+    }
+
+    // Index of the first bit >= from that is set (or clear), -1 if none
+    private static int nextBit(long[] words, int from, boolean set) {
+        int index = from >>> 6;
+        long word = (set ? words[index] : ~words[index]) & (-1L << from);
+        while (word == 0) {
+            if (++index == WORDS) {
+                return -1;
+            }
+            word = set ? words[index] : ~words[index];
+        }
+        return (index << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    boolean contains(char value) {
+        int run = runAtOrBefore(value);
+        return run >= 0 && value <= end(run);
+    }
+
+    @Override
+    Container add(char value) {
+        return contains(value) ? this : expand().add(value);
+    }
+
+    @Override
+    Container remove(char value) {
+        return contains(value) ? expand().remove(value) : this;
+    }
+
+    @Override
+    int first() {
+        return runs[0];
+    }
+
+    @Override
+    int last() {
+        return end(runCount - 1);
+    }
+
+    @Override
+    int ceiling(char value) {
+        int run = runAtOrBefore(value);
+        if (run >= 0 && value <= end(run)) {
+            return value;
+        }
+        return run + 1 < runCount ? runs[2 * (run + 1)] : -1;
+    }
+
+    @Override
+    int floor(char value) {
+        int run = runAtOrBefore(value);
+        return run < 0 ? -1 : Math.min(value, end(run));
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int r = 0; r < runCount; r++) {
+            int end = end(r);
+            for (int value = runs[2 * r]; value <= end; value++) {
+                action.accept(high | value);
+            }
+        }
+    }
+
+    @Override
+    long[] toWords() {
+        long[] words = new long[WORDS];
+        for (int r = 0; r < runCount; r++) {
+            setRange(words, runs[2 * r], end(r) + 1);
+        }
+        return words;
+    }
+
+    @Override
+    Container copy() {
+        return this;  // immutable
+    }
+
+    @Override
+    int sizeInBytes() {
+        return 4 * runCount;
+    }
+
+    private int end(int run) {
+        return runs[2 * run] + runs[2 * run + 1];
+    }
+
+    // Last run whose start <= value, -1 if none
+    private int runAtOrBefore(char value) {
+        int lo = 0;
+        int hi = runCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (runs[2 * mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return hi;
+    }
+
+    private Container expand() {
+        long[] words = toWords();
+        return cardinality <= MAX_ARRAY_SIZE
+                ? ArrayContainer.fromWords(words, cardinality)
+                : new BitmapContainer(words, cardinality);
+    }
+}
@@ -0,0 +1,572 @@
+package com.javacorepractice.foundation.cache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/*
+ Concurrent, size- or weight-bounded cache with W-TinyLFU admission and optional expiration.
+ The production version of the LinkedHashMap LRU idea from MapExamples.linkedHashMapLruDemo.
+
+ Storage: ConcurrentHashMap<K, Node> — get() is lock-free.
+ Policy (which entry to evict) is kept in three access-ordered lists, guarded by one lock:
+ - window    (~1% of the capacity)  plain LRU: new entries land here, absorbs bursts
+ - probation (main, ~20%)           entries that left the window or were demoted
+ - protected (main, ~80%)           entries read again while in probation
+ When the cache is over its bound, the LRU entry of the window competes with the LRU
+ entry of probation: the one with the lower estimated frequency (FrequencySketch) is evicted.
+ So a one-time scan cannot flush popular entries, as it would in a plain LRU.
+
+ Reads do not take the lock: they are recorded in a lossy striped ReadBuffer and replayed
+ on the lists by whoever holds the lock next (a write, or a reader that finds a full buffer
+ and wins tryLock). Writes (put, invalidate) take the lock.
+
+ Expiration is lazy: expired entries are invisible to get() at once
+ and physically removed during the next maintenance under the lock.
+
+ Build with BoundedCache.newBuilder().maximumSize(10_000).expireAfterWrite(...).build().
+ Null keys and values are not allowed.
+*/
+public final class BoundedCache<K, V> {
+
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReadBuffer<Node<K, V>> readBuffer = new ReadBuffer<>();
+    private final FrequencySketch sketch;
+
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final Weigher<? super K, ? super V> weigher;
+    private final long expireAfterWriteNanos;  // 0 = disabled
+    private final long expireAfterAccessNanos; // 0 = disabled
+    private final LongSupplier ticker;
+
+    // guarded by lock
+    private final AccessOrderList<K, V> window = new AccessOrderList<>();
+    private final AccessOrderList<K, V> probation = new AccessOrderList<>();
+    private final AccessOrderList<K, V> protectedList = new AccessOrderList<>();
+    private final WriteOrderList<K, V> writeOrder = new WriteOrderList<>();
+    private long weightedSize;
+    private long windowWeight;
+    private long protectedWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictionWeight = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private BoundedCache(Builder<K, V> builder) {
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.ticker = builder.ticker;
+        this.windowMaximum = Math.max(1, maximumWeight / 100);
+        this.protectedMaximum = (long) ((maximumWeight - windowMaximum) * 0.8);
+        int initialCapacity = (int) Math.min(builder.initialCapacity, 1 << 20);
+        this.map = new ConcurrentHashMap<>(initialCapacity);
+        this.sketch = new FrequencySketch(Math.max(initialCapacity, Math.min(maximumWeight, 1 << 16)));
+    }
+
+    public static <K, V> Builder<K, V> newBuilder() {
+        return new Builder<>();
+    }
+
+    // Value or null if absent or expired; counts a hit or a miss
+    public V getIfPresent(K key) {
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        long now = ticker.getAsLong();
+        if (isExpired(node, now)) {
+            misses.increment();
+            tryMaintenance();
+            return null;
+        }
+        hits.increment();
+        if (expireAfterAccessNanos > 0) {
+            node.accessTime = now;
+        }
+        if (readBuffer.offer(node)) {
+            tryMaintenance();
+        }
+        return node.value;
+    }
+
+    /*
+     Returns the cached value or computes, stores and returns a new one.
+     The loader runs outside the lock; two threads missing the same key at the same time
+     may both run it, and the last put wins.
+    */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight: " + weight);
+        }
+        long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = map.get(key);
+            if (node != null) {
+                node.value = value;
+                node.writeTime = now;
+                node.accessTime = now;
+                updateWeight(node, weight);
+                writeOrder.moveToBack(node);
+                onAccess(node);
+            } else if (weight <= maximumWeight) {
+                node = new Node<>(key, value, weight, now);
+                map.put(key, node);
+                node.queue = WINDOW;
+                window.addLast(node);
+                writeOrder.addLast(node);
+                windowWeight += weight;
+                weightedSize += weight;
+                sketch.increment(key.hashCode());
+                if (map.size() > sketch.capacity()) {
+                    sketch.ensureCapacity(sketch.capacity() * 2L);
+                }
+            }
+            // an entry heavier than the whole cache is not stored at all
+            expireEntries(now);
+            evictEntries();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = map.get(key);
+            if (node != null) {
+                removeNode(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            for (Node<K, V> node : map.values()) {
+                removeNode(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Runs pending maintenance now: replays reads, removes expired entries, enforces the bound
+    public void cleanUp() {
+        lock.lock();
+        try {
+            maintenance();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Number of stored entries, may include expired entries not yet cleaned up
+    public long estimatedSize() {
+        return map.size();
+    }
+
+    public long weightedSize() {
+        lock.lock();
+        try {
+            return weightedSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), evictionWeight.sum(), expirations.sum());
+    }
+
+    private void tryMaintenance() {
+        if (lock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void maintenance() {
+        drainReadBuffer();
+        expireEntries(ticker.getAsLong());
+        evictEntries();
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(this::onAccess);
+    }
+
+    // Replays one read on the policy lists
+    private void onAccess(Node<K, V> node) {
+        if (!node.alive) {
+            return; // removed after the read was buffered
+        }
+        sketch.increment(node.key.hashCode());
+        if (node.queue == WINDOW) {
+            window.moveToBack(node);
+        } else if (node.queue == PROBATION) {
+            // read again while on probation -> promote
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedList.addLast(node);
+            protectedWeight += node.weight;
+            demoteProtected();
+        } else {
+            protectedList.moveToBack(node);
+        }
+    }
+
+    // Keeps the protected segment within its share; its LRU entries go back to probation
+    private void demoteProtected() {
+        while (protectedWeight > protectedMaximum) {
+            Node<K, V> demoted = protectedList.pollFirst();
+            if (demoted == null) {
+                break;
+            }
+            protectedWeight -= demoted.weight;
+            demoted.queue = PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+
+    private void evictEntries() {
+        // 1) window overflow moves to probation; the first moved entry is the admission candidate
+        Node<K, V> candidate = null;
+        while (windowWeight > windowMaximum) {
+            Node<K, V> node = window.pollFirst();
+            if (node == null) {
+                break;
+            }
+            windowWeight -= node.weight;
+            node.queue = PROBATION;
+            probation.addLast(node);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+
+        // 2) over the bound: candidate (new in main) vs victim (oldest in probation)
+        while (weightedSize > maximumWeight) {
+            Node<K, V> victim = probation.peekFirst();
+            if (victim == null) {
+                victim = protectedList.peekFirst() != null ? protectedList.peekFirst() : window.peekFirst();
+                if (victim == null) {
+                    break;
+                }
+                evict(victim);
+                continue;
+            }
+            if (candidate == null || !candidate.alive || candidate.queue != PROBATION || victim == candidate) {
+                // no newcomer to compare with: plain LRU eviction from probation
+                if (victim == candidate) {
+                    candidate = candidate.next;
+                }
+                evict(victim);
+                continue;
+            }
+            Node<K, V> nextCandidate = candidate.next;
+            if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                evict(victim); // the newcomer is more popular: admit it
+            } else {
+                evict(candidate); // ties go to the incumbent
+                candidate = nextCandidate;
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        evictions.increment();
+        evictionWeight.add(node.weight);
+        removeNode(node);
+    }
+
+    // Write-order list is oldest-first; access lists are oldest-first per segment
+    private void expireEntries(long now) {
+        if (expireAfterWriteNanos > 0) {
+            Node<K, V> node;
+            while ((node = writeOrder.peekFirst()) != null && now - node.writeTime >= expireAfterWriteNanos) {
+                expirations.increment();
+                removeNode(node);
+            }
+        }
+        if (expireAfterAccessNanos > 0) {
+            expireAccessOrder(window, now);
+            expireAccessOrder(probation, now);
+            expireAccessOrder(protectedList, now);
+        }
+    }
+
+    private void expireAccessOrder(AccessOrderList<K, V> list, long now) {
+        Node<K, V> node;
+        while ((node = list.peekFirst()) != null && now - node.accessTime >= expireAfterAccessNanos) {
+            expirations.increment();
+            removeNode(node);
+        }
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private void updateWeight(Node<K, V> node, int weight) {
+        int delta = weight - node.weight;
+        node.weight = weight;
+        weightedSize += delta;
+        if (node.queue == WINDOW) {
+            windowWeight += delta;
+        } else if (node.queue == PROTECTED) {
+            protectedWeight += delta;
+        }
+    }
+
+    private void removeNode(Node<K, V> node) {
+        if (!node.alive) {
+            return;
+        }
+        node.alive = false;
+        map.remove(node.key, node);
+        if (node.queue == WINDOW) {
+            window.remove(node);
+            windowWeight -= node.weight;
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+        } else {
+            protectedList.remove(node);
+            protectedWeight -= node.weight;
+        }
+        writeOrder.remove(node);
+        weightedSize -= node.weight;
+    }
+
+    static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        volatile long writeTime;
+        volatile long accessTime;
+        // guarded by lock
+        int weight;
+        byte queue;
+        boolean alive = true;
+        Node<K, V> prev;
+        Node<K, V> next;
+        Node<K, V> writePrev;
+        Node<K, V> writeNext;
+
+        Node(K key, V value, int weight, long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+    }
+
+    // Intrusive doubly-linked list over Node.prev/next: first = least recently used
+    static final class AccessOrderList<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        Node<K, V> peekFirst() {
+            return first;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+    }
+
+    // Same over Node.writePrev/writeNext: first = oldest write
+    static final class WriteOrderList<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        Node<K, V> peekFirst() {
+            return first;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.writePrev = last;
+            node.writeNext = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.writeNext = node;
+            }
+            last = node;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.writePrev == null) {
+                first = node.writeNext;
+            } else {
+                node.writePrev.writeNext = node.writeNext;
+            }
+            if (node.writeNext == null) {
+                last = node.writePrev;
+            } else {
+                node.writeNext.writePrev = node.writePrev;
+            }
+            node.writePrev = null;
+            node.writeNext = null;
+        }
+    }
+
+    public static final class Builder<K, V> {
+        private long maximumWeight = -1;
+        private Weigher<? super K, ? super V> weigher = (k, v) -> 1;
+        private boolean weigherSet;
+        private long expireAfterWriteNanos;
+        private long expireAfterAccessNanos;
+        private LongSupplier ticker = System::nanoTime;
+        private long initialCapacity = 16;
+
+        private Builder() {
+        }
+
+        // Bound by number of entries (every entry weighs 1)
+        public Builder<K, V> maximumSize(long maximumSize) {
+            if (weigherSet) {
+                throw new IllegalStateException("maximumSize cannot be combined with a weigher");
+            }
+            return maximumWeight(maximumSize);
+        }
+
+        public Builder<K, V> maximumWeight(long maximumWeight) {
+            if (maximumWeight <= 0) {
+                throw new IllegalArgumentException("Maximum must be positive: " + maximumWeight);
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        public Builder<K, V> weigher(Weigher<? super K, ? super V> weigher) {
+            this.weigher = Objects.requireNonNull(weigher);
+            this.weigherSet = true;
+            return this;
+        }
+
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            this.expireAfterWriteNanos = positiveNanos(duration);
+            return this;
+        }
+
+        public Builder<K, V> expireAfterAccess(Duration duration) {
+            this.expireAfterAccessNanos = positiveNanos(duration);
+            return this;
+        }
+
+        // Time source in nanoseconds, System::nanoTime by default (replace in tests)
+        public Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        public Builder<K, V> initialCapacity(long initialCapacity) {
+            this.initialCapacity = initialCapacity;
+            return this;
+        }
+
+        public <K1 extends K, V1 extends V> BoundedCache<K1, V1> build() {
+            if (maximumWeight < 0) {
+                throw new IllegalStateException("maximumSize or maximumWeight is required");
+            }
+            @SuppressWarnings("unchecked")
+            Builder<K1, V1> self = (Builder<K1, V1>) this;
+            return new BoundedCache<>(self);
+        }
+
+        private static long positiveNanos(Duration duration) {
+            long nanos = duration.toNanos();
+            if (nanos <= 0) {
+                throw new IllegalArgumentException("Duration must be positive: " + duration);
+            }
+            return nanos;
+        }
+    }
+}
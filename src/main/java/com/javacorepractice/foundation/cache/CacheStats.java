@@ -0,0 +1,59 @@
+package com.javacorepractice.foundation.cache;
+
+// Immutable snapshot of BoundedCache counters
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long evictionWeight;
+    private final long expirationCount;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, long evictionWeight, long expirationCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+        this.expirationCount = expirationCount;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    // 1.0 when there were no requests yet
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    // Entries removed by the size/weight bound
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    public long evictionWeight() {
+        return evictionWeight;
+    }
+
+    // Entries removed because expireAfterWrite / expireAfterAccess passed
+    public long expirationCount() {
+        return expirationCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", misses=" + missCount
+                + ", hitRate=" + String.format("%.3f", hitRate())
+                + ", evictions=" + evictionCount + ", evictionWeight=" + evictionWeight
+                + ", expirations=" + expirationCount + "}";
+    }
+}
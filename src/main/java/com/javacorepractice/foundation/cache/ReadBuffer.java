@@ -0,0 +1,76 @@
+package com.javacorepractice.foundation.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/*
+ Lossy, striped buffer of "this entry was read" events.
+ Readers never take the policy lock: they append to one of several small ring buffers
+ (chosen by thread id, so threads rarely share a stripe) with a single CAS.
+ The owner of the policy lock drains all stripes and replays the reads on the LRU lists.
+ If a stripe is full or the CAS loses a race, the event is simply dropped:
+ a missed LRU update only makes the policy slightly less precise, never incorrect.
+*/
+final class ReadBuffer<E> {
+
+    static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+    private final Stripe<E>[] stripes;
+    private final int stripesMask;
+
+    ReadBuffer() {
+        int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        stripes = newStripes(count);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        stripesMask = count - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Stripe<E>[] newStripes(int count) {
+        return (Stripe<E>[]) new Stripe<?>[count];
+    }
+
+    // Returns true when the stripe is full enough that the caller should try to drain
+    boolean offer(E e) {
+        Stripe<E> stripe = stripes[(int) Thread.currentThread().getId() & stripesMask];
+        long tail = stripe.writes.get();
+        long size = tail - stripe.reads;
+        if (size >= STRIPE_SIZE) {
+            return true;
+        }
+        if (stripe.writes.compareAndSet(tail, tail + 1)) {
+            stripe.buffer.lazySet((int) (tail & STRIPE_MASK), e);
+            return size + 1 >= STRIPE_SIZE / 2;
+        }
+        return false;
+    }
+
+    // Must be called by one thread at a time (under the policy lock)
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            long head = stripe.reads;
+            long tail = stripe.writes.get();
+            while (head < tail) {
+                int index = (int) (head & STRIPE_MASK);
+                E e = stripe.buffer.get(index);
+                if (e == null) {
+                    break; // slot reserved but not published yet — pick it up next time
+                }
+                stripe.buffer.lazySet(index, null);
+                consumer.accept(e);
+                head++;
+            }
+            stripe.reads = head;
+        }
+    }
+
+    private static final class Stripe<E> {
+        final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        final AtomicLong writes = new AtomicLong();
+        volatile long reads;
+    }
+}
@@ -0,0 +1,9 @@
+package com.javacorepractice.foundation.cache;
+
+// Weight of one entry for the maximumWeight bound (e.g. bytes of a cached payload).
+// Must be >= 0 and must not change while the entry is in the cache.
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    int weigh(K key, V value);
+}
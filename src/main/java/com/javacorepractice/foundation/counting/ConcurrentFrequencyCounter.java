@@ -0,0 +1,88 @@
+package com.javacorepractice.foundation.counting;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ Exact concurrent counter: ConcurrentHashMap<K, LongAdder>.
+ - increment of a known key = one lock-free get + LongAdder.add; the adder spreads
+   contended updates over per-CPU cells, so many threads counting the same key do not
+   fight over one CAS like AtomicLong would
+ - a new key goes through computeIfAbsent once (the plain get first keeps the common
+   path free of the bin lock)
+ - topK / snapshot iterate the map weakly consistently: writers keep running
+ Memory: one map node + one LongAdder (+ cells once contended) per distinct key;
+ for unbounded key sets see CountMinSketchCounter.
+*/
+public class ConcurrentFrequencyCounter<K> implements FrequencyCounter<K> {
+
+    private final ConcurrentHashMap<K, LongAdder> counts;
+
+    public ConcurrentFrequencyCounter() {
+        this(16);
+    }
+
+    public ConcurrentFrequencyCounter(int expectedKeys) {
+        counts = new ConcurrentHashMap<>(expectedKeys);
+    }
+
+    @Override
+    public void increment(K key) {
+        adder(key).increment();
+    }
+
+    @Override
+    public void add(K key, long delta) {
+        FrequencyCounter.checkDelta(delta);
+        adder(key).add(delta);
+    }
+
+    @Override
+    public long count(K key) {
+        LongAdder adder = counts.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Override
+    public long total() {
+        long total = 0;
+        for (LongAdder adder : counts.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    @Override
+    public List<KeyCount<K>> topK(int k) {
+        FrequencyCounter.checkK(k);
+        TopK<K> top = new TopK<>(k);
+        counts.forEach((key, adder) -> top.offer(key, adder.sum()));
+        return top.result();
+    }
+
+    // Point-in-time-ish copy of all counts (weakly consistent under concurrent writes)
+    public Map<K, Long> snapshot() {
+        Map<K, Long> snapshot = new HashMap<>(counts.size() * 4 / 3 + 1);
+        counts.forEach((key, adder) -> snapshot.put(key, adder.sum()));
+        return snapshot;
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    private LongAdder adder(K key) {
+        LongAdder adder = counts.get(key);
+        if (adder == null) {
+            adder = counts.computeIfAbsent(key, k -> new LongAdder());
+        }
+        return adder;
+    }
+}
@@ -0,0 +1,169 @@
+package com.javacorepractice.foundation.counting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ Approximate concurrent counter in fixed memory: Count-Min Sketch.
+ depth rows x width counters; a key increments one counter per row (chosen by a
+ row-specific hash) and its estimate is the minimum of those counters.
+ - never under-counts; over-counts by at most epsilon * total with probability >= confidence,
+   where width = e / epsilon and depth = ln(1 / (1 - confidence))
+ - memory is depth * width longs whatever the number of distinct keys
+ - counters are AtomicLongArray cells: lock-free getAndAdd, no per-key objects
+
+ The sketch cannot list its keys, so topK keeps a small candidate set of heavy hitters:
+ a key enters it when its estimate beats the smallest tracked estimate; when the set
+ grows to twice its capacity, one writer (tryLock, others do not wait) trims it back.
+ topK(k) therefore works for k <= trackedKeys.
+*/
+public class CountMinSketchCounter<K> implements FrequencyCounter<K> {
+
+    private final int width;
+    private final int depth;
+    private final int widthMask;
+    private final AtomicLongArray table;
+    private final LongAdder total = new LongAdder();
+
+    private final int trackedKeys;
+    private final ConcurrentHashMap<K, Long> candidates = new ConcurrentHashMap<>();
+    private final ReentrantLock pruneLock = new ReentrantLock();
+    private volatile long admissionThreshold;
+
+    private CountMinSketchCounter(int width, int depth, int trackedKeys) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Width and depth must be positive: " + width + " x " + depth);
+        }
+        if (trackedKeys < 0) {
+            throw new IllegalArgumentException("Negative tracked keys: " + trackedKeys);
+        }
+        if ((long) width * depth > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Sketch too large: " + width + " x " + depth);
+        }
+        this.width = Math.max(2, Integer.highestOneBit(width - 1) << 1);
+        this.depth = depth;
+        this.widthMask = this.width - 1;
+        this.table = new AtomicLongArray(this.width * depth);
+        this.trackedKeys = trackedKeys;
+    }
+
+    // e.g. ofError(0.001, 0.99, 100): estimates within 0.1% of total with 99% probability, top-100 tracking
+    public static <K> CountMinSketchCounter<K> ofError(double epsilon, double confidence, int trackedKeys) {
+        if (!(epsilon > 0 && epsilon < 1) || !(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("epsilon and confidence must be in (0, 1)");
+        }
+        int width = (int) Math.ceil(Math.E / epsilon);
+        int depth = (int) Math.ceil(Math.log(1 / (1 - confidence)));
+        return new CountMinSketchCounter<>(width, depth, trackedKeys);
+    }
+
+    // Width is rounded up to a power of two
+    public static <K> CountMinSketchCounter<K> ofDimensions(int width, int depth, int trackedKeys) {
+        return new CountMinSketchCounter<>(width, depth, trackedKeys);
+    }
+
+    @Override
+    public void add(K key, long delta) {
+        FrequencyCounter.checkDelta(delta);
+        int h1 = spread(key.hashCode());
+        int h2 = rehash(h1);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + ((h1 + row * h2) & widthMask);
+            estimate = Math.min(estimate, table.getAndAdd(index, delta) + delta);
+        }
+        total.add(delta);
+        if (trackedKeys > 0) {
+            track(key, estimate);
+        }
+    }
+
+    @Override
+    public long count(K key) {
+        int h1 = spread(key.hashCode());
+        int h2 = rehash(h1);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, table.get(row * width + ((h1 + row * h2) & widthMask)));
+        }
+        return estimate;
+    }
+
+    @Override
+    public long total() {
+        return total.sum();
+    }
+
+    // Estimated counts, re-read from the sketch; only k <= trackedKeys is meaningful
+    @Override
+    public List<KeyCount<K>> topK(int k) {
+        FrequencyCounter.checkK(k);
+        if (k > trackedKeys) {
+            throw new IllegalArgumentException("k = " + k + " exceeds tracked keys = " + trackedKeys);
+        }
+        TopK<K> top = new TopK<>(k);
+        for (K key : candidates.keySet()) {
+            top.offer(key, count(key));
+        }
+        return top.result();
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    // Guaranteed upper bound of the over-count with the configured confidence: e / width * total
+    public long errorBound() {
+        return (long) Math.ceil(Math.E / width * total.sum());
+    }
+
+    private void track(K key, long estimate) {
+        if (estimate <= admissionThreshold && !candidates.containsKey(key)) {
+            return;
+        }
+        candidates.put(key, estimate);
+        if (candidates.size() > 2 * trackedKeys && pruneLock.tryLock()) {
+            try {
+                prune();
+            } finally {
+                pruneLock.unlock();
+            }
+        }
+    }
+
+    // Keeps the trackedKeys best candidates and raises the admission threshold to the weakest of them
+    private void prune() {
+        List<Map.Entry<K, Long>> entries = new ArrayList<>(candidates.size());
+        for (K key : candidates.keySet()) {
+            entries.add(Map.entry(key, count(key)));
+        }
+        if (entries.size() <= trackedKeys) {
+            return;
+        }
+        entries.sort(Map.Entry.<K, Long>comparingByValue().reversed());
+        for (int i = trackedKeys; i < entries.size(); i++) {
+            candidates.remove(entries.get(i).getKey());
+        }
+        admissionThreshold = entries.get(trackedKeys - 1).getValue();
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Second, independent-enough hash for double hashing (h1 + row * h2); odd so rows differ
+    private static int rehash(int h) {
+        h = (h ^ (h >>> 15)) * 0x85EBCA6B;
+        return (h ^ (h >>> 13)) | 1;
+    }
+}
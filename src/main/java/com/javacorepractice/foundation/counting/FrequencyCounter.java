@@ -0,0 +1,44 @@
+package com.javacorepractice.foundation.counting;
+
+import java.util.List;
+
+/*
+ Thread-safe replacement for the counter pattern of MapExamples.hashMapDemo2:
+   counter.put(k, counter.getOrDefault(k, 0) + 1)   // two lookups, lost updates under threads
+ Implementations:
+ - ConcurrentFrequencyCounter — exact, ConcurrentHashMap<K, LongAdder>
+ - StripedFrequencyCounter    — exact, per-thread-stripe maps for a few very hot keys
+ - CountMinSketchCounter      — approximate, fixed memory for unbounded key sets
+ Reads (count, topK, total) never block writers; under concurrent writes they see
+ some of the in-flight increments, like LongAdder.sum().
+*/
+public interface FrequencyCounter<K> {
+
+    default void increment(K key) {
+        add(key, 1);
+    }
+
+    // delta must be >= 0
+    void add(K key, long delta);
+
+    // Exact or estimated count, 0 for unseen keys
+    long count(K key);
+
+    // Sum of all deltas
+    long total();
+
+    // Up to k keys with the highest counts, highest first
+    List<KeyCount<K>> topK(int k);
+
+    static void checkDelta(long delta) {
+        if (delta < 0) {
+            throw new IllegalArgumentException("Negative delta: " + delta);
+        }
+    }
+
+    static void checkK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Negative k: " + k);
+        }
+    }
+}
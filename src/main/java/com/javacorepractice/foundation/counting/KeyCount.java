@@ -0,0 +1,49 @@
+package com.javacorepractice.foundation.counting;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+// Immutable (key, count) pair returned by FrequencyCounter.topK
+public final class KeyCount<K> {
+
+    // Highest count first
+    static final Comparator<KeyCount<?>> BY_COUNT_DESC = (a, b) -> Long.compare(b.count, a.count);
+
+    private final K key;
+    private final long count;
+
+    public KeyCount(K key, long count) {
+        this.key = Objects.requireNonNull(key);
+        this.count = count;
+    }
+
+    public K key() {
+        return key;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeyCount)) {
+            return false;
+        }
+        KeyCount<?> other = (KeyCount<?>) o;
+        return count == other.count && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * key.hashCode() + Long.hashCode(count);
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + count;
+    }
+}
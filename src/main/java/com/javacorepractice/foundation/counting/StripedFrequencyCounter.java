@@ -0,0 +1,115 @@
+package com.javacorepractice.foundation.counting;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ Exact concurrent counter for skewed streams with a handful of very hot keys.
+ ConcurrentFrequencyCounter already stripes the counter (LongAdder), but every thread still
+ reads the same map node for a hot key, and the LongAdder only grows its cells after CAS failures.
+ Here each thread is pinned to one of S stripes (S = power of two >= 2 x CPUs),
+ and every stripe has its own ConcurrentHashMap<K, AtomicLong>:
+ threads on different stripes touch different nodes and different counters.
+ Cost: a key counted by many threads exists up to S times; count(key) is O(S),
+ topK / total merge all stripes.
+*/
+public class StripedFrequencyCounter<K> implements FrequencyCounter<K> {
+
+    private final ConcurrentHashMap<K, AtomicLong>[] stripes;
+    private final int mask;
+
+    public StripedFrequencyCounter() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public StripedFrequencyCounter(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripeCount);
+        }
+        int size = Integer.highestOneBit(Math.min(stripeCount, 1 << 16) - 1) << 1;
+        size = Math.max(size, 1);
+        stripes = newStripes(size);
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        mask = size - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> ConcurrentHashMap<K, AtomicLong>[] newStripes(int size) {
+        return (ConcurrentHashMap<K, AtomicLong>[]) new ConcurrentHashMap<?, ?>[size];
+    }
+
+    @Override
+    public void increment(K key) {
+        counter(key).incrementAndGet();
+    }
+
+    @Override
+    public void add(K key, long delta) {
+        FrequencyCounter.checkDelta(delta);
+        counter(key).addAndGet(delta);
+    }
+
+    @Override
+    public long count(K key) {
+        long count = 0;
+        for (ConcurrentHashMap<K, AtomicLong> stripe : stripes) {
+            AtomicLong counter = stripe.get(key);
+            if (counter != null) {
+                count += counter.get();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long total() {
+        long total = 0;
+        for (ConcurrentHashMap<K, AtomicLong> stripe : stripes) {
+            for (AtomicLong counter : stripe.values()) {
+                total += counter.get();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public List<KeyCount<K>> topK(int k) {
+        FrequencyCounter.checkK(k);
+        TopK<K> top = new TopK<>(k);
+        snapshot().forEach(top::offer);
+        return top.result();
+    }
+
+    // Merged copy of all stripes (weakly consistent under concurrent writes)
+    public Map<K, Long> snapshot() {
+        Map<K, Long> merged = new HashMap<>();
+        for (ConcurrentHashMap<K, AtomicLong> stripe : stripes) {
+            stripe.forEach((key, counter) -> merged.merge(key, counter.get(), Long::sum));
+        }
+        return merged;
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    private AtomicLong counter(K key) {
+        ConcurrentHashMap<K, AtomicLong> stripe = stripes[stripeIndex()];
+        AtomicLong counter = stripe.get(key);
+        if (counter == null) {
+            counter = stripe.computeIfAbsent(key, k -> new AtomicLong());
+        }
+        return counter;
+    }
+
+    // Thread ids are sequential, so consecutive threads land on different stripes
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & mask;
+    }
+}
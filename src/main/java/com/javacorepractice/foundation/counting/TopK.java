@@ -0,0 +1,39 @@
+package com.javacorepractice.foundation.counting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/*
+ Streaming top-K selection: a min-heap of at most k entries; a new entry replaces the
+ smallest one only if it is larger. O(n log k) time, O(k) memory — no sort of all keys.
+*/
+final class TopK<K> {
+
+    private final int k;
+    private final PriorityQueue<KeyCount<K>> heap;
+
+    TopK(int k) {
+        this.k = k;
+        this.heap = new PriorityQueue<>(Math.max(1, k), KeyCount.BY_COUNT_DESC.reversed());
+    }
+
+    void offer(K key, long count) {
+        if (k == 0) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.add(new KeyCount<>(key, count));
+        } else if (count > heap.peek().count()) {
+            heap.poll();
+            heap.add(new KeyCount<>(key, count));
+        }
+    }
+
+    // Highest first
+    List<KeyCount<K>> result() {
+        List<KeyCount<K>> result = new ArrayList<>(heap);
+        result.sort(KeyCount.BY_COUNT_DESC);
+        return result;
+    }
+}
@@ -0,0 +1,362 @@
+package com.javacorepractice.foundation.hash;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntBinaryOperator;
+
+/*
+ int -> int hash map with open addressing — the counter pattern of MapExamples.hashMapDemo2
+ (getOrDefault + put on HashMap<Integer, Integer>) without boxing and without a Node per entry.
+
+ Layout: two parallel arrays keys[] / values[], length a power of two.
+ Key 0 marks a free slot, so a real key 0 is stored aside (hasZeroKey / zeroValue).
+ Collisions: linear probing — the next slot, then the next: neighbours share cache lines.
+ Deletion: backward shift — following entries of the same run are moved back into the hole,
+ so there are no tombstones and lookups never slow down after many removals.
+
+ addTo / merge find the slot once and update it in place (HashMap needs get + put = two lookups).
+ Iteration: forEach(IntIntConsumer) or cursor(), never a Map.Entry.
+ Absent keys read as 0 in get / put / remove; use containsKey or getOrDefault to tell them apart.
+ Not thread-safe.
+*/
+public class Int2IntHashMap {
+
+    private final float loadFactor;
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;  // including the zero key
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public Int2IntHashMap() {
+        this(16, IntHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public Int2IntHashMap(int expectedSize) {
+        this(expectedSize, IntHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public Int2IntHashMap(int expectedSize, float loadFactor) {
+        IntHashing.checkExpectedSize(expectedSize);
+        IntHashing.checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(IntHashing.tableSize(expectedSize, loadFactor));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    // Value for the key, 0 if absent
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    // Returns the previous value, 0 if the key was absent
+    public int put(int key, int value) {
+        if (key == 0) {
+            int previous = zeroValue;
+            zeroValue = value;
+            addZeroKey();
+            return previous;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insertAt(-slot - 1, key, value);
+        return 0;
+    }
+
+    // Counter increment in one probe: absent keys start at 0. Returns the new value
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            addZeroKey();
+            return zeroValue += delta;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        insertAt(-slot - 1, key, delta);
+        return delta;
+    }
+
+    // Like Map.merge: absent -> value, present -> function(old, value). One probe. Returns the new value
+    public int merge(int key, int value, IntBinaryOperator function) {
+        if (key == 0) {
+            zeroValue = hasZeroKey ? function.applyAsInt(zeroValue, value) : value;
+            addZeroKey();
+            return zeroValue;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            return values[slot] = function.applyAsInt(values[slot], value);
+        }
+        insertAt(-slot - 1, key, value);
+        return value;
+    }
+
+    // Returns the removed value, 0 if the key was absent
+    public int remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                return 0;
+            }
+            int previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return previous;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return 0;
+        }
+        int previous = values[slot];
+        shiftKeys(slot);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    public void forEach(IntIntConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        int[] keys = this.keys;
+        int[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    // Snapshot of the keys, in table order
+    public int[] keys() {
+        int[] result = new int[size];
+        int n = 0;
+        if (hasZeroKey) {
+            result[n++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    /*
+     Allocation-free iteration:
+       Int2IntHashMap.Cursor c = map.cursor();
+       while (c.next()) { use(c.key(), c.value()); }
+     The map must not be structurally modified (new key, remove) while iterating; setValue is allowed.
+    */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public final class Cursor {
+        // -2 = before start, -1 = zero key, 0.. = table slot
+        private int position = -2;
+
+        private Cursor() {
+        }
+
+        public boolean next() {
+            if (position == -2) {
+                position = -1;
+                if (hasZeroKey) {
+                    return true;
+                }
+            }
+            int[] keys = Int2IntHashMap.this.keys;
+            while (++position < keys.length) {
+                if (keys[position] != 0) {
+                    return true;
+                }
+            }
+            position = keys.length;
+            return false;
+        }
+
+        public int key() {
+            return position == -1 ? 0 : keys[checkPosition()];
+        }
+
+        public int value() {
+            return position == -1 ? zeroValue : values[checkPosition()];
+        }
+
+        public void setValue(int value) {
+            if (position == -1) {
+                zeroValue = value;
+            } else {
+                values[checkPosition()] = value;
+            }
+        }
+
+        private int checkPosition() {
+            if (position < 0 || position >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            return position;
+        }
+    }
+
+    private void addZeroKey() {
+        if (!hasZeroKey) {
+            hasZeroKey = true;
+            size++;
+        }
+    }
+
+    // Slot of the key, or -(free slot where it would go) - 1
+    private int find(int key) {
+        int[] keys = this.keys;
+        int i = IntHashing.mix(key) & mask;
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -i - 1;
+    }
+
+    private void insertAt(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /*
+     Backward-shift deletion: walk the run after the hole; an entry whose home slot
+     is not cyclically inside (hole, current] can move back into the hole,
+     which then moves to that entry's old slot. Stops at the first free slot.
+    */
+    private void shiftKeys(int hole) {
+        int[] keys = this.keys;
+        int current = hole;
+        while (true) {
+            current = (current + 1) & mask;
+            int k = keys[current];
+            if (k == 0) {
+                keys[hole] = 0;
+                return;
+            }
+            int home = IntHashing.mix(k) & mask;
+            if (hole <= current ? (home <= hole || home > current) : (home <= hole && home > current)) {
+                keys[hole] = k;
+                values[hole] = values[current];
+                hole = current;
+            }
+        }
+    }
+
+    private void rehash(int newLength) {
+        if (newLength > IntHashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Hash table is full");
+        }
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newLength);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int k = oldKeys[i];
+            if (k != 0) {
+                int slot = IntHashing.mix(k) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = k;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new int[length];
+        values = new int[length];
+        mask = length - 1;
+        resizeAt = Math.min(length - 1, (int) Math.ceil(length * loadFactor));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Int2IntHashMap)) {
+            return false;
+        }
+        Int2IntHashMap other = (Int2IntHashMap) o;
+        if (size != other.size || hasZeroKey != other.hasZeroKey || zeroValue != other.zeroValue) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int k = keys[i];
+            if (k != 0) {
+                int slot = other.find(k);
+                if (slot < 0 || other.values[slot] != values[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Same value as a HashMap<Integer, Integer> holding the same entries
+    @Override
+    public int hashCode() {
+        int h = hasZeroKey ? zeroValue : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                h += keys[i] ^ values[i];
+            }
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((k, v) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(k).append('=').append(v);
+        });
+        return sb.append('}').toString();
+    }
+}
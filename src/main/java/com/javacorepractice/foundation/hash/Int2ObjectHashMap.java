@@ -0,0 +1,397 @@
+package com.javacorepractice.foundation.hash;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/*
+ int -> V hash map with open addressing — HashMap<Integer, V> without boxed keys and Nodes.
+ Built for the grouping pattern of MapExamples.hashMapDemo2:
+   groups.computeIfAbsent(key, k -> new IntArrayList()).add(x)
+ which here is a single probe, whether the key is new or not.
+
+ Same layout as Int2IntHashMap: keys[] / values[] in parallel, key 0 = free slot
+ (a real key 0 is kept aside), linear probing, backward-shift deletion without tombstones.
+ Null values are not allowed, so get() == null always means "absent".
+ Not thread-safe.
+*/
+public class Int2ObjectHashMap<V> {
+
+    private final float loadFactor;
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;  // including the zero key
+    private V zeroValue;  // non-null <=> key 0 present
+
+    public Int2ObjectHashMap() {
+        this(16, IntHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public Int2ObjectHashMap(int expectedSize) {
+        this(expectedSize, IntHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public Int2ObjectHashMap(int expectedSize, float loadFactor) {
+        IntHashing.checkExpectedSize(expectedSize);
+        IntHashing.checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(IntHashing.tableSize(expectedSize, loadFactor));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? zeroValue != null : find(key) >= 0;
+    }
+
+    // Value for the key, null if absent
+    public V get(int key) {
+        if (key == 0) {
+            return zeroValue;
+        }
+        int slot = find(key);
+        return slot >= 0 ? valueAt(slot) : null;
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    // Returns the previous value, null if the key was absent
+    public V put(int key, V value) {
+        Objects.requireNonNull(value, "value");
+        if (key == 0) {
+            V previous = zeroValue;
+            setZeroValue(value);
+            return previous;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            V previous = valueAt(slot);
+            values[slot] = value;
+            return previous;
+        }
+        insertAt(-slot - 1, key, value);
+        return null;
+    }
+
+    // Stores the value only if the key is absent; returns the current value (null if it was absent)
+    public V putIfAbsent(int key, V value) {
+        Objects.requireNonNull(value, "value");
+        if (key == 0) {
+            V previous = zeroValue;
+            if (previous == null) {
+                setZeroValue(value);
+            }
+            return previous;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            return valueAt(slot);
+        }
+        insertAt(-slot - 1, key, value);
+        return null;
+    }
+
+    // Grouping pattern in one probe. The function gets the key as a primitive int
+    public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
+        if (key == 0) {
+            if (zeroValue == null) {
+                setZeroValue(mappingFunction.apply(0));
+            }
+            return zeroValue;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            return valueAt(slot);
+        }
+        V value = Objects.requireNonNull(mappingFunction.apply(key), "computed value");
+        insertAt(-slot - 1, key, value);
+        return value;
+    }
+
+    /*
+     Like Map.merge: absent -> value, present -> function(old, value), one probe.
+     A null result from the function removes the entry. Returns the new value or null.
+    */
+    public V merge(int key, V value, BiFunction<? super V, ? super V, ? extends V> function) {
+        Objects.requireNonNull(value, "value");
+        if (key == 0) {
+            V merged = zeroValue == null ? value : function.apply(zeroValue, value);
+            if (merged == null) {
+                remove(0);
+            } else {
+                setZeroValue(merged);
+            }
+            return merged;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            insertAt(-slot - 1, key, value);
+            return value;
+        }
+        V merged = function.apply(valueAt(slot), value);
+        if (merged == null) {
+            shiftKeys(slot);
+            size--;
+        } else {
+            values[slot] = merged;
+        }
+        return merged;
+    }
+
+    // Returns the removed value, null if the key was absent
+    public V remove(int key) {
+        if (key == 0) {
+            V previous = zeroValue;
+            if (previous != null) {
+                zeroValue = null;
+                size--;
+            }
+            return previous;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = valueAt(slot);
+        shiftKeys(slot);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        zeroValue = null;
+        size = 0;
+    }
+
+    public void forEach(IntObjConsumer<? super V> action) {
+        if (zeroValue != null) {
+            action.accept(0, zeroValue);
+        }
+        int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], valueAt(i));
+            }
+        }
+    }
+
+    // Snapshot of the keys, in table order
+    public int[] keys() {
+        int[] result = new int[size];
+        int n = 0;
+        if (zeroValue != null) {
+            result[n++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    /*
+     Allocation-free iteration:
+       Int2ObjectHashMap<V>.Cursor c = map.cursor();
+       while (c.next()) { use(c.key(), c.value()); }
+     The map must not be structurally modified (new key, remove) while iterating; setValue is allowed.
+    */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public final class Cursor {
+        // -2 = before start, -1 = zero key, 0.. = table slot
+        private int position = -2;
+
+        private Cursor() {
+        }
+
+        public boolean next() {
+            if (position == -2) {
+                position = -1;
+                if (zeroValue != null) {
+                    return true;
+                }
+            }
+            int[] keys = Int2ObjectHashMap.this.keys;
+            while (++position < keys.length) {
+                if (keys[position] != 0) {
+                    return true;
+                }
+            }
+            position = keys.length;
+            return false;
+        }
+
+        public int key() {
+            return position == -1 ? 0 : keys[checkPosition()];
+        }
+
+        public V value() {
+            return position == -1 ? zeroValue : valueAt(checkPosition());
+        }
+
+        public void setValue(V value) {
+            Objects.requireNonNull(value, "value");
+            if (position == -1) {
+                zeroValue = value;
+            } else {
+                values[checkPosition()] = value;
+            }
+        }
+
+        private int checkPosition() {
+            if (position < 0 || position >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            return position;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    private void setZeroValue(V value) {
+        Objects.requireNonNull(value, "value");
+        if (zeroValue == null) {
+            size++;
+        }
+        zeroValue = value;
+    }
+
+    // Slot of the key, or -(free slot where it would go) - 1
+    private int find(int key) {
+        int[] keys = this.keys;
+        int i = IntHashing.mix(key) & mask;
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -i - 1;
+    }
+
+    private void insertAt(int slot, int key, V value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    // Backward-shift deletion, see Int2IntHashMap.shiftKeys
+    private void shiftKeys(int hole) {
+        int[] keys = this.keys;
+        int current = hole;
+        while (true) {
+            current = (current + 1) & mask;
+            int k = keys[current];
+            if (k == 0) {
+                keys[hole] = 0;
+                values[hole] = null;  // let the value be collected
+                return;
+            }
+            int home = IntHashing.mix(k) & mask;
+            if (hole <= current ? (home <= hole || home > current) : (home <= hole && home > current)) {
+                keys[hole] = k;
+                values[hole] = values[current];
+                hole = current;
+            }
+        }
+    }
+
+    private void rehash(int newLength) {
+        if (newLength > IntHashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Hash table is full");
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newLength);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int k = oldKeys[i];
+            if (k != 0) {
+                int slot = IntHashing.mix(k) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = k;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new int[length];
+        values = new Object[length];
+        mask = length - 1;
+        resizeAt = Math.min(length - 1, (int) Math.ceil(length * loadFactor));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Int2ObjectHashMap)) {
+            return false;
+        }
+        Int2ObjectHashMap<?> other = (Int2ObjectHashMap<?>) o;
+        if (size != other.size || !Objects.equals(zeroValue, other.zeroValue)) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int k = keys[i];
+            if (k != 0) {
+                int slot = other.find(k);
+                if (slot < 0 || !values[i].equals(other.values[slot])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Same value as a HashMap<Integer, V> holding the same entries
+    @Override
+    public int hashCode() {
+        int h = zeroValue != null ? zeroValue.hashCode() : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                h += keys[i] ^ values[i].hashCode();
+            }
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((k, v) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(k).append('=').append(v);
+        });
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,339 @@
+package com.javacorepractice.foundation.hash;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/*
+ Set of ints with open addressing — HashSet<Integer> from SetExamples without
+ a boxed Integer and a HashMap.Node per element (~4-5 bytes per element at the
+ default load factor instead of ~32-48).
+
+ Same table as Int2IntHashMap without the values: power-of-two int[], key 0 = free slot
+ (a real 0 is kept in a flag), linear probing, backward-shift removal.
+ Set algebra: union / intersection / difference return new sets and probe the larger
+ set with the elements of the smaller one where possible; addAll / retainAll / removeAll
+ change this set in place.
+ No ordering; for sorted navigation see foundation.bitmap.RoaringIntSet.
+ Not thread-safe.
+*/
+public class IntHashSet {
+
+    private final float loadFactor;
+    private int[] keys;
+    private int mask;
+    private int resizeAt;
+    private int size;  // including zero
+    private boolean hasZero;
+
+    public IntHashSet() {
+        this(16, IntHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntHashSet(int expectedSize) {
+        this(expectedSize, IntHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntHashSet(int expectedSize, float loadFactor) {
+        IntHashing.checkExpectedSize(expectedSize);
+        IntHashing.checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(IntHashing.tableSize(expectedSize, loadFactor));
+    }
+
+    public static IntHashSet of(int... values) {
+        IntHashSet set = new IntHashSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int value) {
+        return value == 0 ? hasZero : find(value) >= 0;
+    }
+
+    // Returns false if already present
+    public boolean add(int value) {
+        if (value == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        int slot = find(value);
+        if (slot >= 0) {
+            return false;
+        }
+        keys[-slot - 1] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    // Returns false if it was absent
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            size--;
+            return true;
+        }
+        int slot = find(value);
+        if (slot < 0) {
+            return false;
+        }
+        shiftKeys(slot);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (hasZero) {
+            action.accept(0);
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    // The set must not be modified while iterating
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int position = hasZero ? -1 : advance(0);
+
+            private int advance(int from) {
+                while (from < keys.length && keys[from] == 0) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return position < keys.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int value = position < 0 ? 0 : keys[position];
+                position = advance(position + 1);
+                return value;
+            }
+        };
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        if (hasZero) {
+            result[n++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    // New set with the elements of both
+    public IntHashSet union(IntHashSet other) {
+        IntHashSet larger = size >= other.size ? this : other;
+        IntHashSet smaller = larger == this ? other : this;
+        IntHashSet result = larger.copy(size + other.size);
+        smaller.forEach(result::add);
+        return result;
+    }
+
+    // New set with the common elements; walks the smaller set, probes the larger
+    public IntHashSet intersection(IntHashSet other) {
+        IntHashSet larger = size >= other.size ? this : other;
+        IntHashSet smaller = larger == this ? other : this;
+        IntHashSet result = new IntHashSet(smaller.size);
+        smaller.forEach(value -> {
+            if (larger.contains(value)) {
+                result.add(value);
+            }
+        });
+        return result;
+    }
+
+    // New set with the elements of this set that are not in the other
+    public IntHashSet difference(IntHashSet other) {
+        IntHashSet result = new IntHashSet(size);
+        forEach(value -> {
+            if (!other.contains(value)) {
+                result.add(value);
+            }
+        });
+        return result;
+    }
+
+    // In place: this = this | other. Returns true if this set changed
+    public boolean addAll(IntHashSet other) {
+        int before = size;
+        other.forEach(this::add);
+        return size != before;
+    }
+
+    // In place: this = this & other (table rebuilt once, no per-element removal)
+    public boolean retainAll(IntHashSet other) {
+        IntHashSet kept = intersection(other);
+        return replaceWith(kept);
+    }
+
+    /*
+     In place: this = this - other. When the other set is much smaller, its elements are
+     removed one by one; otherwise the kept elements are copied into a fresh table.
+    */
+    public boolean removeAll(IntHashSet other) {
+        int before = size;
+        if (other.size * 4 < size) {
+            other.forEach(this::remove);
+            return size != before;
+        }
+        return replaceWith(difference(other));
+    }
+
+    private boolean replaceWith(IntHashSet kept) {
+        if (kept.size == size) {
+            return false;
+        }
+        keys = kept.keys;
+        mask = kept.mask;
+        resizeAt = kept.resizeAt;
+        size = kept.size;
+        hasZero = kept.hasZero;
+        return true;
+    }
+
+    private IntHashSet copy(int expectedSize) {
+        IntHashSet copy = new IntHashSet(Math.max(expectedSize, size), loadFactor);
+        forEach(copy::add);
+        return copy;
+    }
+
+    // Slot of the value, or -(free slot where it would go) - 1
+    private int find(int value) {
+        int[] keys = this.keys;
+        int i = IntHashing.mix(value) & mask;
+        int k;
+        while ((k = keys[i]) != 0) {
+            if (k == value) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -i - 1;
+    }
+
+    // Backward-shift deletion, see Int2IntHashMap.shiftKeys
+    private void shiftKeys(int hole) {
+        int[] keys = this.keys;
+        int current = hole;
+        while (true) {
+            current = (current + 1) & mask;
+            int k = keys[current];
+            if (k == 0) {
+                keys[hole] = 0;
+                return;
+            }
+            int home = IntHashing.mix(k) & mask;
+            if (hole <= current ? (home <= hole || home > current) : (home <= hole && home > current)) {
+                keys[hole] = k;
+                hole = current;
+            }
+        }
+    }
+
+    private void rehash(int newLength) {
+        if (newLength > IntHashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Hash table is full");
+        }
+        int[] oldKeys = keys;
+        allocate(newLength);
+        for (int k : oldKeys) {
+            if (k != 0) {
+                int slot = IntHashing.mix(k) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = k;
+            }
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new int[length];
+        mask = length - 1;
+        resizeAt = Math.min(length - 1, (int) Math.ceil(length * loadFactor));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntHashSet)) {
+            return false;
+        }
+        IntHashSet other = (IntHashSet) o;
+        if (size != other.size || hasZero != other.hasZero) {
+            return false;
+        }
+        for (int key : keys) {
+            if (key != 0 && other.find(key) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Same value as a HashSet<Integer> with the same elements
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int key : keys) {
+            h += key;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        forEach(value -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(value);
+        });
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.javacorepractice.foundation.hash;
+
+// Shared helpers for the open-addressing tables in this package
+final class IntHashing {
+
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private IntHashing() {
+    }
+
+    /*
+     Spreads the bits of an int key over the whole word (golden-ratio multiply + xor-shift).
+     Needed because table index = hash & mask keeps only the low bits, and keys like
+     0, 16, 32, ... or ids sharing low bits would all land in the same slot run.
+    */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Power-of-two table length able to hold 'expected' keys below the load factor
+    static int tableSize(long expected, float loadFactor) {
+        long needed = (long) Math.ceil(expected / (double) loadFactor);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too many entries for a hash table: " + expected);
+        }
+        return Math.max(2, Integer.highestOneBit((int) Math.max(needed - 1, 1)) << 1);
+    }
+
+    static void checkLoadFactor(float loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be in (0, 1): " + loadFactor);
+        }
+    }
+
+    static void checkExpectedSize(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.javacorepractice.foundation.hash;
+
+// (key, value) callback for primitive int maps: no Map.Entry, no boxing
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    void accept(int key, int value);
+}
@@ -0,0 +1,8 @@
+package com.javacorepractice.foundation.hash;
+
+// (key, value) callback for int-keyed maps: no Map.Entry, no boxed key
+@FunctionalInterface
+public interface IntObjConsumer<V> {
+
+    void accept(int key, V value);
+}
@@ -0,0 +1,100 @@
+package com.javacorepractice.foundation.list;
+
+import java.util.PrimitiveIterator;
+
+/*
+ ListAlgorithms ported to IntArrayList: same operations and output,
+ but no boxing and no linked nodes.
+ - fillList: one int[] instead of n Integer objects + n nodes
+ - sortList: insertion sort with O(1) get/set — O(n²) instead of O(n³) on LinkedList
+*/
+public class IntListAlgorithms {
+
+    public void runAll() {
+        IntArrayList list = fillList(30);
+        printWithIterator(list);
+        indexOf(list);
+        removeElement(list);
+        reverseList(list);
+        sortList();
+    }
+
+    public IntArrayList fillList(int elements) {
+        IntArrayList list = new IntArrayList(elements);
+        // O(n): filling the list, no resizing thanks to the initial capacity
+        for (int i = 0; i < elements; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    public void printWithIterator(IntArrayList list) {
+        System.out.println("Method: printWithIterator");
+
+        // O(n): primitive iterator, nextInt() returns int without boxing
+        PrimitiveIterator.OfInt it = list.iterator();
+
+        StringBuilder sb = new StringBuilder("Print all elements with Iterator: ");
+        while (it.hasNext()) {
+            sb.append(it.nextInt()).append(' ');
+        }
+        System.out.println(sb);
+    }
+
+    public void indexOf(IntArrayList list) {
+        System.out.println("Method: indexOf");
+
+        // O(n): linear scan over the backing array
+        int element = 7;
+        int index = list.indexOf(element);
+        if (index >= 0) {
+            System.out.println("Index of element: " + index);
+        } else {
+            System.out.println("Element " + element + " not found");
+        }
+    }
+
+    public void removeElement(IntArrayList list) {
+        System.out.println("Method: removeElement");
+
+        // O(n): find + one System.arraycopy shift
+        int element = 7;
+        if (list.removeValue(element)) {
+            System.out.println("Element deleted");
+        }
+        printWithIterator(list);
+    }
+
+    public void reverseList(IntArrayList list) {
+        System.out.println("Method: reverseList");
+
+        // O(n): in-place swap from both ends
+        list.reverse();
+        printWithIterator(list);
+    }
+
+    public void sortList() {
+        System.out.println("Method: sortList");
+        IntArrayList list = IntArrayList.of(1, 9, 3, 15, 2);
+        System.out.println("List before sorting:");
+        printWithIterator(list);
+
+        // O(n²): classic insertion sort, get/set are O(1) here
+        for (int i = 1; i < list.size(); i++) {
+            int key = list.get(i);
+            int j = i - 1;
+
+            // shift all elements bigger than key to the right
+            while (j >= 0 && list.get(j) > key) {
+                list.set(j + 1, list.get(j));
+                j--;
+            }
+
+            // insert key in the correct position
+            list.set(j + 1, key);
+        }
+
+        System.out.println("List after sorting:");
+        printWithIterator(list);
+    }
+}
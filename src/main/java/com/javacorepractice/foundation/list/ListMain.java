@@ -4,5 +4,6 @@ public class ListMain {
     public static void main(String[] args) {
         new ListExamples().runAll();
         new ListAlgorithms().runAll();
+        new IntListAlgorithms().runAll();
     }
 }
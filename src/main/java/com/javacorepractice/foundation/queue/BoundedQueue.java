@@ -0,0 +1,36 @@
+package com.javacorepractice.foundation.queue;
+
+import java.util.function.Consumer;
+
+/*
+ Bounded FIFO hand-off between threads. Unlike the java.util.Queue demos in QueueExamples
+ it never grows: offer fails when the queue is full, so a slow consumer pushes back
+ on producers instead of filling the heap.
+ Null elements are not allowed (null means "empty" for poll).
+*/
+public interface BoundedQueue<E> {
+
+    // false if full
+    boolean offer(E element);
+
+    // null if empty
+    E poll();
+
+    // Waits with the queue's WaitStrategy until there is room
+    void put(E element);
+
+    // Waits with the queue's WaitStrategy until there is an element
+    E take();
+
+    // Polls up to limit elements into the consumer, returns how many were drained; never waits
+    int drain(Consumer<? super E> consumer, int limit);
+
+    // Approximate while other threads are working
+    int size();
+
+    int capacity();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+}
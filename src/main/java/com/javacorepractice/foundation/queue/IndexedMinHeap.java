@@ -0,0 +1,204 @@
+package com.javacorepractice.foundation.queue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/*
+ Min-priority queue over ids 0 .. capacity-1 whose priorities can change in place
+ (PriorityQueue cannot: you remove in O(n) and offer again).
+ Typical uses: Dijkstra / Prim (decreaseKey), schedulers (reschedule or cancel a task by id).
+
+ 4-ary heap of ids plus position[id] = index of the id in the heap (-1 if absent),
+ so an id is found in O(1) and re-sifted from where it is:
+ insert / decreaseKey / changePriority / remove(id) / poll are O(log4 n), contains is O(1).
+ Not thread-safe.
+*/
+public class IndexedMinHeap {
+
+    private final int[] heap;        // heap order -> id
+    private final int[] position;    // id -> heap index, -1 if absent
+    private final long[] priorities; // id -> priority
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + capacity);
+        }
+        heap = new int[capacity];
+        position = new int[capacity];
+        priorities = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    public boolean contains(int id) {
+        checkId(id);
+        return position[id] >= 0;
+    }
+
+    public long priorityOf(int id) {
+        checkPresent(id);
+        return priorities[id];
+    }
+
+    public void insert(int id, long priority) {
+        checkId(id);
+        if (position[id] >= 0) {
+            throw new IllegalArgumentException("Id already in the heap: " + id);
+        }
+        priorities[id] = priority;
+        siftUp(size++, id);
+    }
+
+    // New priority must not be larger than the current one
+    public void decreaseKey(int id, long priority) {
+        checkPresent(id);
+        if (priority > priorities[id]) {
+            throw new IllegalArgumentException("decreaseKey to a larger priority: " + priorities[id] + " -> " + priority);
+        }
+        priorities[id] = priority;
+        siftUp(position[id], id);
+    }
+
+    // Any direction
+    public void changePriority(int id, long priority) {
+        checkPresent(id);
+        long old = priorities[id];
+        priorities[id] = priority;
+        if (priority < old) {
+            siftUp(position[id], id);
+        } else {
+            siftDown(position[id], id);
+        }
+    }
+
+    // Inserts the id or changes its priority
+    public void upsert(int id, long priority) {
+        if (contains(id)) {
+            changePriority(id, priority);
+        } else {
+            insert(id, priority);
+        }
+    }
+
+    // Returns false if the id was not in the heap
+    public boolean remove(int id) {
+        checkId(id);
+        int index = position[id];
+        if (index < 0) {
+            return false;
+        }
+        position[id] = -1;
+        int last = --size;
+        if (index != last) {
+            int moved = heap[last];
+            long movedPriority = priorities[moved];
+            // the last element may belong above or below the hole
+            if (index > 0 && movedPriority < priorities[heap[(index - 1) >>> 2]]) {
+                siftUp(index, moved);
+            } else {
+                siftDown(index, moved);
+            }
+        }
+        return true;
+    }
+
+    public int peekId() {
+        checkNotEmpty();
+        return heap[0];
+    }
+
+    public long peekPriority() {
+        checkNotEmpty();
+        return priorities[heap[0]];
+    }
+
+    // Removes the id with the smallest priority and returns it
+    public int poll() {
+        checkNotEmpty();
+        int id = heap[0];
+        remove(id);
+        return id;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index, int id) {
+        long priority = priorities[id];
+        while (index > 0) {
+            int parent = (index - 1) >>> 2;
+            int parentId = heap[parent];
+            if (priorities[parentId] <= priority) {
+                break;
+            }
+            heap[index] = parentId;
+            position[parentId] = index;
+            index = parent;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    private void siftDown(int index, int id) {
+        long priority = priorities[id];
+        while (true) {
+            int firstChild = (index << 2) + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int best = firstChild;
+            long bestPriority = priorities[heap[firstChild]];
+            int end = Math.min(firstChild + 4, size);
+            for (int child = firstChild + 1; child < end; child++) {
+                long childPriority = priorities[heap[child]];
+                if (childPriority < bestPriority) {
+                    best = child;
+                    bestPriority = childPriority;
+                }
+            }
+            if (priority <= bestPriority) {
+                break;
+            }
+            int bestId = heap[best];
+            heap[index] = bestId;
+            position[bestId] = index;
+            index = best;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= heap.length) {
+            throw new IndexOutOfBoundsException("Id " + id + " out of bounds for capacity " + heap.length);
+        }
+    }
+
+    private void checkPresent(int id) {
+        if (!contains(id)) {
+            throw new NoSuchElementException("Id not in the heap: " + id);
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+    }
+}
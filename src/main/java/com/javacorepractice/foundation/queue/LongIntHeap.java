@@ -0,0 +1,134 @@
+package com.javacorepractice.foundation.queue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/*
+ Min-heap of (long priority, int payload) pairs — PriorityQueue<Integer> from
+ QueueExamples.priorityQueueDemo without boxing or a Comparator call per comparison.
+
+ 4-ary instead of binary: a node has 4 children stored next to each other, so the tree is
+ half as deep (log4 n levels) and sift-down reads the 4 children from one or two cache lines.
+ Poll does a few more comparisons per level but far fewer cache misses; offer is cheaper too.
+ Priorities and payloads live in two parallel arrays (no per-element objects).
+ Equal priorities come out in unspecified order. Not thread-safe.
+*/
+public class LongIntHeap {
+
+    private long[] priorities;
+    private int[] payloads;
+    private int size;
+
+    public LongIntHeap() {
+        this(16);
+    }
+
+    public LongIntHeap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        priorities = new long[Math.max(initialCapacity, 1)];
+        payloads = new int[priorities.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // O(log4 n)
+    public void offer(long priority, int payload) {
+        if (size == priorities.length) {
+            int newLength = priorities.length + (priorities.length >> 1) + 1;
+            priorities = Arrays.copyOf(priorities, newLength);
+            payloads = Arrays.copyOf(payloads, newLength);
+        }
+        siftUp(size++, priority, payload);
+    }
+
+    public long peekPriority() {
+        checkNotEmpty();
+        return priorities[0];
+    }
+
+    public int peekPayload() {
+        checkNotEmpty();
+        return payloads[0];
+    }
+
+    // Removes the minimum and returns its payload (read peekPriority() first if it is needed)
+    public int poll() {
+        checkNotEmpty();
+        int payload = payloads[0];
+        int last = --size;
+        if (last > 0) {
+            siftDown(0, priorities[last], payloads[last]);
+        }
+        return payload;
+    }
+
+    /*
+     Replaces the minimum with a new pair in one sift-down — poll() + offer() in half the work.
+     The core step of bounded top-K selection.
+    */
+    public void replaceTop(long priority, int payload) {
+        checkNotEmpty();
+        siftDown(0, priority, payload);
+    }
+
+    private void siftUp(int index, long priority, int payload) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 2;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            priorities[index] = priorities[parent];
+            payloads[index] = payloads[parent];
+            index = parent;
+        }
+        priorities[index] = priority;
+        payloads[index] = payload;
+    }
+
+    private void siftDown(int index, long priority, int payload) {
+        long[] priorities = this.priorities;
+        int size = this.size;
+        while (true) {
+            int firstChild = (index << 2) + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            // smallest of up to 4 children
+            int best = firstChild;
+            long bestPriority = priorities[firstChild];
+            int end = Math.min(firstChild + 4, size);
+            for (int child = firstChild + 1; child < end; child++) {
+                if (priorities[child] < bestPriority) {
+                    best = child;
+                    bestPriority = priorities[child];
+                }
+            }
+            if (priority <= bestPriority) {
+                break;
+            }
+            priorities[index] = bestPriority;
+            payloads[index] = payloads[best];
+            index = best;
+        }
+        priorities[index] = priority;
+        payloads[index] = payload;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+    }
+}
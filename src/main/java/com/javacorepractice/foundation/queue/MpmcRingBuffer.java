@@ -0,0 +1,70 @@
+package com.javacorepractice.foundation.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ Many producers, many consumers (Vyukov's bounded MPMC queue).
+ Every slot carries its own sequence number that tells whose turn it is:
+ - slotSequence == position          -> free for the producer claiming 'position'
+ - slotSequence == position + 1      -> filled, for the consumer claiming 'position'
+ After consuming, the slot is handed to the producer of the next lap (position + capacity).
+ Producers and consumers each CAS only their own padded sequence; the per-slot numbers
+ make the CAS winner the only thread touching that slot, so no locks are needed.
+*/
+public class MpmcRingBuffer<E> extends RingBuffer<E> {
+
+    private final AtomicLongArray slotSequences;
+
+    public MpmcRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public MpmcRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        slotSequences = new AtomicLongArray(buffer.length);
+        for (int i = 0; i < buffer.length; i++) {
+            slotSequences.setPlain(i, i);
+        }
+    }
+
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element);
+        while (true) {
+            long position = producer.get();
+            int slot = (int) position & mask;
+            long difference = slotSequences.getAcquire(slot) - position;
+            if (difference == 0) {
+                if (producer.compareAndSet(position, position + 1)) {
+                    buffer[slot] = element;
+                    slotSequences.setRelease(slot, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;  // the slot still holds last lap's element: full
+            }
+            // difference > 0: another producer took this position, retry with a fresh one
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        while (true) {
+            long position = consumer.get();
+            int slot = (int) position & mask;
+            long difference = slotSequences.getAcquire(slot) - (position + 1);
+            if (difference == 0) {
+                if (consumer.compareAndSet(position, position + 1)) {
+                    E element = (E) buffer[slot];
+                    buffer[slot] = null;
+                    slotSequences.setRelease(slot, position + buffer.length);
+                    return element;
+                }
+            } else if (difference < 0) {
+                return null;  // not filled yet: empty
+            }
+        }
+    }
+}
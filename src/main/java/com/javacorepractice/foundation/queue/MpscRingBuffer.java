@@ -0,0 +1,54 @@
+package com.javacorepractice.foundation.queue;
+
+import java.util.Objects;
+
+/*
+ Many producers, single consumer (the usual "many workers -> one writer thread" shape).
+ Producers claim a position with one CAS on the producer sequence, then store the element
+ with a release write. The consumer needs no CAS: it owns its sequence. A claimed slot that
+ is still null means a producer is between its CAS and its store; the consumer spins briefly
+ for it instead of reporting "empty".
+*/
+public class MpscRingBuffer<E> extends RingBuffer<E> {
+
+    public MpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public MpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element);
+        long position;
+        do {
+            position = producer.get();
+            if (position - buffer.length >= consumer.get()) {
+                return false;
+            }
+        } while (!producer.compareAndSet(position, position + 1));
+        releaseSlot(position, element);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long position = consumer.getPlain();
+        E element = acquireSlot(position);
+        if (element == null) {
+            if (position == producer.get()) {
+                return null;
+            }
+            // claimed but not yet stored
+            do {
+                Thread.onSpinWait();
+                element = acquireSlot(position);
+            } while (element == null);
+        }
+        releaseSlot(position, null);
+        consumer.setRelease(position + 1);
+        return element;
+    }
+}
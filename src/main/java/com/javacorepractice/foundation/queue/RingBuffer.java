@@ -0,0 +1,103 @@
+package com.javacorepractice.foundation.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/*
+ Common part of the array-backed ring buffers.
+ Capacity is a power of two, so slot = sequence & mask (no division).
+ Producer and consumer positions are ever-growing long sequences in padded Sequence objects;
+ the queue holds producer - consumer elements. Slots are read and written through a VarHandle
+ with acquire/release ordering, so an element is fully visible before its slot looks occupied.
+ Variants differ only in how producers and consumers claim positions:
+ SpscRingBuffer (one each, no CAS), MpscRingBuffer (CAS for producers), MpmcRingBuffer (CAS both).
+*/
+public abstract class RingBuffer<E> implements BoundedQueue<E> {
+
+    static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    final Object[] buffer;
+    final int mask;
+    final Sequence producer = new Sequence(0);
+    final Sequence consumer = new Sequence(0);
+    private final WaitStrategy waitStrategy;
+
+    RingBuffer(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be in [2, 2^30]: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+    }
+
+    @Override
+    public void put(E element) {
+        Objects.requireNonNull(element);
+        for (int attempt = 0; !offer(element); attempt++) {
+            waitStrategy.idle(attempt);
+        }
+    }
+
+    @Override
+    public E take() {
+        E element;
+        for (int attempt = 0; (element = poll()) == null; attempt++) {
+            waitStrategy.idle(attempt);
+        }
+        return element;
+    }
+
+    @Override
+    public int drain(Consumer<? super E> consumer, int limit) {
+        checkLimit(limit);
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        // re-read the consumer until it is stable around the producer read
+        long after = consumer.get();
+        while (true) {
+            long before = after;
+            long produced = producer.get();
+            after = consumer.get();
+            if (before == after) {
+                return (int) Math.max(0, Math.min(produced - after, buffer.length));
+            }
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return buffer.length;
+    }
+
+    public WaitStrategy waitStrategy() {
+        return waitStrategy;
+    }
+
+    static void checkLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Negative limit: " + limit);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    final E acquireSlot(long sequence) {
+        return (E) SLOT.getAcquire(buffer, (int) sequence & mask);
+    }
+
+    final void releaseSlot(long sequence, Object value) {
+        SLOT.setRelease(buffer, (int) sequence & mask, value);
+    }
+}
@@ -0,0 +1,64 @@
+package com.javacorepractice.foundation.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/*
+ long counter alone on its cache line(s).
+ A producer index and a consumer index written by different threads must not share a
+ 64-byte cache line: every write would invalidate the line in the other core's cache
+ (false sharing). 7 longs on each side keep neighbours away even with 128-byte prefetch pairs.
+ The padding lives in superclasses / subclasses because the JVM may reorder the fields
+ of a single class, but always places superclass fields first.
+*/
+final class Sequence extends SequenceRightPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    Sequence(long initial) {
+        value = initial;
+    }
+
+    // Volatile read
+    long get() {
+        return value;
+    }
+
+    // Only for the thread that owns the counter
+    long getPlain() {
+        return (long) VALUE.get(this);
+    }
+
+    // Ordered write: visible to others after the preceding writes (cheaper than a volatile write)
+    void setRelease(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    void setPlain(long newValue) {
+        VALUE.set(this, newValue);
+    }
+
+    boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+}
+
+abstract class SequenceLeftPadding {
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SequenceValue extends SequenceLeftPadding {
+    volatile long value;
+}
+
+abstract class SequenceRightPadding extends SequenceValue {
+    long p11, p12, p13, p14, p15, p16, p17;
+}
@@ -0,0 +1,76 @@
+package com.javacorepractice.foundation.queue;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/*
+ Single producer, single consumer: exactly one thread may offer/put and one may poll/take/drain.
+ No CAS at all — each side owns its sequence and publishes it with a release write.
+ Each side also caches the other side's last seen position and re-reads the shared
+ (contended) sequence only when the cache says full / empty.
+ drain reads the producer position once for the whole batch.
+*/
+public class SpscRingBuffer<E> extends RingBuffer<E> {
+
+    // owned by the producer: last seen consumer position
+    private final Sequence consumerCache = new Sequence(0);
+    // owned by the consumer: last seen producer position
+    private final Sequence producerCache = new Sequence(0);
+
+    public SpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public SpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element);
+        long position = producer.getPlain();
+        long wrapPoint = position - buffer.length;
+        if (wrapPoint >= consumerCache.getPlain()) {
+            long consumed = consumer.get();
+            consumerCache.setPlain(consumed);
+            if (wrapPoint >= consumed) {
+                return false;
+            }
+        }
+        releaseSlot(position, element);
+        producer.setRelease(position + 1);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long position = consumer.getPlain();
+        if (position >= producerCache.getPlain()) {
+            long produced = producer.get();
+            producerCache.setPlain(produced);
+            if (position >= produced) {
+                return null;
+            }
+        }
+        E element = acquireSlot(position);
+        releaseSlot(position, null);
+        consumer.setRelease(position + 1);
+        return element;
+    }
+
+    @Override
+    public int drain(Consumer<? super E> consumer, int limit) {
+        checkLimit(limit);
+        long position = this.consumer.getPlain();
+        long available = producer.get() - position;
+        producerCache.setPlain(position + available);
+        int count = (int) Math.min(available, limit);
+        for (int i = 0; i < count; i++) {
+            E element = acquireSlot(position);
+            releaseSlot(position, null);
+            this.consumer.setRelease(++position);
+            consumer.accept(element);
+        }
+        return count;
+    }
+}
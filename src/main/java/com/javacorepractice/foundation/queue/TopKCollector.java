@@ -0,0 +1,75 @@
+package com.javacorepractice.foundation.queue;
+
+/*
+ Keeps the K pairs with the highest priorities seen in a stream, in O(K) memory.
+ Internally a min-heap of size K: its root is the weakest of the current top K, so a new
+ pair is either rejected with one comparison (the common case once the heap is warm) or
+ replaces the root in one sift-down. O(n log K) total vs O(n log n) for sort-then-take and
+ O(n) memory for collecting everything into a PriorityQueue first.
+ Not thread-safe; merge per-thread collectors with addAll.
+*/
+public class TopKCollector {
+
+    private final int k;
+    private final LongIntHeap heap;
+
+    public TopKCollector(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        this.k = k;
+        this.heap = new LongIntHeap(k);
+    }
+
+    // Returns true if the pair is (for now) among the top K
+    public boolean offer(long priority, int payload) {
+        if (heap.size() < k) {
+            heap.offer(priority, payload);
+            return true;
+        }
+        if (priority <= heap.peekPriority()) {
+            return false;
+        }
+        heap.replaceTop(priority, payload);
+        return true;
+    }
+
+    // Adds another collector's current top K (the other one is emptied)
+    public void addAll(TopKCollector other) {
+        while (!other.heap.isEmpty()) {
+            long priority = other.heap.peekPriority();
+            offer(priority, other.heap.poll());
+        }
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    // Smallest priority that is still in the top K; only valid when size() == k
+    public long threshold() {
+        return heap.peekPriority();
+    }
+
+    // Payloads ordered by priority, highest first. Empties the collector
+    public int[] drainPayloadsDescending() {
+        int[] result = new int[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll();
+        }
+        return result;
+    }
+
+    // Fills both arrays (highest priority first) and returns the count. Empties the collector
+    public int drainDescending(long[] prioritiesOut, int[] payloadsOut) {
+        int count = heap.size();
+        if (prioritiesOut.length < count || payloadsOut.length < count) {
+            throw new IllegalArgumentException("Output arrays shorter than " + count);
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            prioritiesOut[i] = heap.peekPriority();
+            payloadsOut[i] = heap.poll();
+        }
+        return count;
+    }
+}
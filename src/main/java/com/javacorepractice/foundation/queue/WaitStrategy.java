@@ -0,0 +1,52 @@
+package com.javacorepractice.foundation.queue;
+
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ What a thread does while put() finds the queue full or take() finds it empty.
+ 'attempt' counts the failed tries of the current wait, starting at 0.
+ - BUSY_SPIN: lowest latency, burns a whole core; only with a core per waiting thread
+ - YIELD:     spins briefly, then gives the core to other runnable threads
+ - PARK:      spins, yields, then sleeps with growing parkNanos (up to 1 ms); cheapest on CPU,
+              adds wake-up latency
+*/
+public enum WaitStrategy {
+
+    BUSY_SPIN {
+        @Override
+        public void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+
+    YIELD {
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+
+    PARK {
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (attempt < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                int shift = Math.min(attempt - SPIN_TRIES - YIELD_TRIES, 10);
+                LockSupport.parkNanos(MIN_PARK_NANOS << shift);
+            }
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 10;
+    private static final long MIN_PARK_NANOS = 1_000;
+
+    public abstract void idle(int attempt);
+}
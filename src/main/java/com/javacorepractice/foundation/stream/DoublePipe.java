@@ -0,0 +1,273 @@
+package com.javacorepractice.foundation.stream;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Supplier;
+
+/*
+ Lazy fused pipeline over a double[] — DoubleStream counterpart of IntPipe, same execution model.
+ sum() and average() use the compensated (Kahan) summation of DoubleSummaryStatistics, which is
+ what DoubleStream.sum / average do, so the results are bit-for-bit the same as the stream's;
+ min / max follow Math.min / Math.max (NaN wins, -0.0 < 0.0) like DoubleStream.
+*/
+public abstract class DoublePipe {
+
+    // Receives pushed elements; false = stop pushing
+    interface Sink {
+        boolean accept(double value);
+    }
+
+    // flatMap function: writes 0..n values for one element into out
+    @FunctionalInterface
+    public interface Expander {
+        void expand(double value, DoubleConsumer out);
+    }
+
+    DoublePipe() {
+    }
+
+    // Pushes every element into the sink until it returns false; returns false if stopped early
+    abstract boolean push(Sink sink);
+
+    public static DoublePipe of(double... values) {
+        return of(values, 0, values.length);
+    }
+
+    // Elements values[from..to)
+    public static DoublePipe of(double[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return new DoublePipe() {
+            @Override
+            boolean push(Sink sink) {
+                for (int i = from; i < to; i++) {
+                    if (!sink.accept(values[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    // ---- intermediate operations (lazy) ----
+
+    public DoublePipe filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        DoublePipe upstream = this;
+        return new DoublePipe() {
+            @Override
+            boolean push(Sink sink) {
+                return upstream.push(value -> !predicate.test(value) || sink.accept(value));
+            }
+        };
+    }
+
+    public DoublePipe map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        DoublePipe upstream = this;
+        return new DoublePipe() {
+            @Override
+            boolean push(Sink sink) {
+                return upstream.push(value -> sink.accept(mapper.applyAsDouble(value)));
+            }
+        };
+    }
+
+    public IntPipe mapToInt(DoubleToIntFunction mapper) {
+        Objects.requireNonNull(mapper);
+        DoublePipe upstream = this;
+        return new IntPipe() {
+            @Override
+            boolean push(IntPipe.Sink sink) {
+                return upstream.push(value -> sink.accept(mapper.applyAsInt(value)));
+            }
+        };
+    }
+
+    public LongPipe mapToLong(DoubleToLongFunction mapper) {
+        Objects.requireNonNull(mapper);
+        DoublePipe upstream = this;
+        return new LongPipe() {
+            @Override
+            boolean push(LongPipe.Sink sink) {
+                return upstream.push(value -> sink.accept(mapper.applyAsLong(value)));
+            }
+        };
+    }
+
+    // DoubleStream.flatMap into a scratch buffer reused for every element, see IntPipe.flatMap
+    public DoublePipe flatMap(Expander expander) {
+        Objects.requireNonNull(expander);
+        DoublePipe upstream = this;
+        return new DoublePipe() {
+            @Override
+            boolean push(Sink sink) {
+                Buffer scratch = new Buffer();
+                return upstream.push(value -> {
+                    scratch.size = 0;
+                    expander.expand(value, scratch);
+                    for (int i = 0; i < scratch.size; i++) {
+                        if (!sink.accept(scratch.data[i])) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+        };
+    }
+
+    public DoublePipe limit(long maxSize) {
+        IntPipe.checkCount(maxSize);
+        DoublePipe upstream = this;
+        return new DoublePipe() {
+            @Override
+            boolean push(Sink sink) {
+                if (maxSize == 0) {
+                    return false;
+                }
+                long[] left = {maxSize};
+                return upstream.push(value -> sink.accept(value) && --left[0] > 0);
+            }
+        };
+    }
+
+    public DoublePipe skip(long n) {
+        IntPipe.checkCount(n);
+        DoublePipe upstream = this;
+        return new DoublePipe() {
+            @Override
+            boolean push(Sink sink) {
+                long[] toSkip = {n};
+                return upstream.push(value -> toSkip[0] > 0 ? toSkip[0]-- > 0 : sink.accept(value));
+            }
+        };
+    }
+
+    // ---- terminal operations ----
+
+    public void forEach(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        push(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    public long count() {
+        long[] count = {0};
+        push(value -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    public double sum() {
+        return summaryStatistics().getSum();
+    }
+
+    public OptionalDouble average() {
+        DoubleSummaryStatistics statistics = summaryStatistics();
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getAverage());
+    }
+
+    public double reduce(double identity, DoubleBinaryOperator op) {
+        Objects.requireNonNull(op);
+        double[] result = {identity};
+        push(value -> {
+            result[0] = op.applyAsDouble(result[0], value);
+            return true;
+        });
+        return result[0];
+    }
+
+    public OptionalDouble reduce(DoubleBinaryOperator op) {
+        Objects.requireNonNull(op);
+        double[] result = new double[1];
+        boolean[] found = {false};
+        push(value -> {
+            result[0] = found[0] ? op.applyAsDouble(result[0], value) : value;
+            found[0] = true;
+            return true;
+        });
+        return found[0] ? OptionalDouble.of(result[0]) : OptionalDouble.empty();
+    }
+
+    public OptionalDouble min() {
+        return reduce(Math::min);
+    }
+
+    public OptionalDouble max() {
+        return reduce(Math::max);
+    }
+
+    public DoubleSummaryStatistics summaryStatistics() {
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        forEach(statistics);
+        return statistics;
+    }
+
+    public OptionalDouble findFirst() {
+        double[] first = new double[1];
+        boolean[] found = {false};
+        push(value -> {
+            first[0] = value;
+            found[0] = true;
+            return false;
+        });
+        return found[0] ? OptionalDouble.of(first[0]) : OptionalDouble.empty();
+    }
+
+    public boolean anyMatch(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        boolean[] found = {false};
+        push(value -> !(found[0] = predicate.test(value)));
+        return found[0];
+    }
+
+    public boolean allMatch(DoublePredicate predicate) {
+        return !anyMatch(predicate.negate());
+    }
+
+    public boolean noneMatch(DoublePredicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+    public double[] toArray() {
+        Buffer buffer = new Buffer();
+        forEach(buffer);
+        return Arrays.copyOf(buffer.data, buffer.size);
+    }
+
+    // DoubleStream.collect without the combiner (sequential)
+    public <R> R collect(Supplier<R> supplier, ObjDoubleConsumer<R> accumulator) {
+        Objects.requireNonNull(accumulator);
+        R container = supplier.get();
+        forEach(value -> accumulator.accept(container, value));
+        return container;
+    }
+
+    // Growable double[] for toArray and the flatMap scratch space
+    private static final class Buffer implements DoubleConsumer {
+        double[] data = new double[16];
+        int size;
+
+        @Override
+        public void accept(double value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+    }
+}
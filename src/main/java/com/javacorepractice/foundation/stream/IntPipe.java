@@ -0,0 +1,350 @@
+package com.javacorepractice.foundation.stream;
+
+import com.javacorepractice.foundation.hash.Int2IntHashMap;
+import com.javacorepractice.foundation.hash.IntHashSet;
+import com.javacorepractice.foundation.list.IntArrayList;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/*
+ Lazy pipeline over an int[] (or a range) — the IntStream pipelines of StreamExamples without
+ Spliterators, pipeline stage objects per run, boxing or per-element allocation.
+
+ filter / map / flatMap / limit / skip only describe the pipeline; nothing runs until a terminal
+ operation (sum, reduce, toArray, toSet, countBy, collect, ...). At that point the stages are fused
+ into one chain of sinks and the source loop pushes every element through it:
+
+     IntPipe.of(values).filter(x -> x % 2 == 0).map(x -> x * 10).sum()
+     ==  for (int x : values) if (x % 2 == 0) sum += x * 10;
+
+ A sink returns false to stop the loop (limit, anyMatch, findFirst), so short-circuiting needs no
+ exceptions or extra checks in the source. flatMap writes the expansion of an element into one
+ scratch buffer owned by the stage and reused for every element (Stream.flatMap creates a stream
+ per element).
+ Allocation: a few sink objects per terminal operation, nothing per element (except what the
+ collecting terminal operations store).
+
+ Results equal the matching IntStream pipeline (same int overflow in sum, OptionalInt for
+ min / max / findFirst / reduce). Unlike a Stream, a pipe can be run again; it reads the
+ source array at the time of the terminal operation.
+ Sequential only; for parallel work see IntPipelines / PrimitiveCollectors.
+*/
+public abstract class IntPipe {
+
+    // Receives pushed elements; false = stop pushing
+    interface Sink {
+        boolean accept(int value);
+    }
+
+    // flatMap function: writes 0..n values for one element into out
+    @FunctionalInterface
+    public interface Expander {
+        void expand(int value, IntConsumer out);
+    }
+
+    IntPipe() {
+    }
+
+    // Pushes every element into the sink until it returns false; returns false if stopped early
+    abstract boolean push(Sink sink);
+
+    public static IntPipe of(int... values) {
+        return of(values, 0, values.length);
+    }
+
+    // Elements values[from..to)
+    public static IntPipe of(int[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return new IntPipe() {
+            @Override
+            boolean push(Sink sink) {
+                for (int i = from; i < to; i++) {
+                    if (!sink.accept(values[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    // from, from + 1, ..., to - 1 (IntStream.range)
+    public static IntPipe range(int from, int to) {
+        return new IntPipe() {
+            @Override
+            boolean push(Sink sink) {
+                for (int i = from; i < to; i++) {
+                    if (!sink.accept(i)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    // ---- intermediate operations (lazy) ----
+
+    public IntPipe filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        IntPipe upstream = this;
+        return new IntPipe() {
+            @Override
+            boolean push(Sink sink) {
+                return upstream.push(value -> !predicate.test(value) || sink.accept(value));
+            }
+        };
+    }
+
+    public IntPipe map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        IntPipe upstream = this;
+        return new IntPipe() {
+            @Override
+            boolean push(Sink sink) {
+                return upstream.push(value -> sink.accept(mapper.applyAsInt(value)));
+            }
+        };
+    }
+
+    public LongPipe mapToLong(IntToLongFunction mapper) {
+        Objects.requireNonNull(mapper);
+        IntPipe upstream = this;
+        return new LongPipe() {
+            @Override
+            boolean push(LongPipe.Sink sink) {
+                return upstream.push(value -> sink.accept(mapper.applyAsLong(value)));
+            }
+        };
+    }
+
+    public DoublePipe mapToDouble(IntToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper);
+        IntPipe upstream = this;
+        return new DoublePipe() {
+            @Override
+            boolean push(DoublePipe.Sink sink) {
+                return upstream.push(value -> sink.accept(mapper.applyAsDouble(value)));
+            }
+        };
+    }
+
+    public LongPipe asLongPipe() {
+        return mapToLong(value -> value);
+    }
+
+    public DoublePipe asDoublePipe() {
+        return mapToDouble(value -> value);
+    }
+
+    /*
+     Replaces each element with the values the expander writes for it (IntStream.flatMap).
+     The values go into a scratch buffer that is cleared and reused for every element.
+    */
+    public IntPipe flatMap(Expander expander) {
+        Objects.requireNonNull(expander);
+        IntPipe upstream = this;
+        return new IntPipe() {
+            @Override
+            boolean push(Sink sink) {
+                Buffer scratch = new Buffer();
+                return upstream.push(value -> {
+                    scratch.size = 0;
+                    expander.expand(value, scratch);
+                    for (int i = 0; i < scratch.size; i++) {
+                        if (!sink.accept(scratch.data[i])) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+        };
+    }
+
+    // First maxSize elements; stops the source afterwards
+    public IntPipe limit(long maxSize) {
+        checkCount(maxSize);
+        IntPipe upstream = this;
+        return new IntPipe() {
+            @Override
+            boolean push(Sink sink) {
+                if (maxSize == 0) {
+                    return false;
+                }
+                long[] left = {maxSize};
+                return upstream.push(value -> sink.accept(value) && --left[0] > 0);
+            }
+        };
+    }
+
+    public IntPipe skip(long n) {
+        checkCount(n);
+        IntPipe upstream = this;
+        return new IntPipe() {
+            @Override
+            boolean push(Sink sink) {
+                long[] toSkip = {n};
+                return upstream.push(value -> toSkip[0] > 0 ? toSkip[0]-- > 0 : sink.accept(value));
+            }
+        };
+    }
+
+    // ---- terminal operations ----
+
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        push(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    public long count() {
+        long[] count = {0};
+        push(value -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    // int arithmetic, overflows like IntStream.sum
+    public int sum() {
+        int[] sum = {0};
+        push(value -> {
+            sum[0] += value;
+            return true;
+        });
+        return sum[0];
+    }
+
+    public int reduce(int identity, IntBinaryOperator op) {
+        Objects.requireNonNull(op);
+        int[] result = {identity};
+        push(value -> {
+            result[0] = op.applyAsInt(result[0], value);
+            return true;
+        });
+        return result[0];
+    }
+
+    public OptionalInt reduce(IntBinaryOperator op) {
+        Objects.requireNonNull(op);
+        int[] result = new int[1];
+        boolean[] found = {false};
+        push(value -> {
+            result[0] = found[0] ? op.applyAsInt(result[0], value) : value;
+            found[0] = true;
+            return true;
+        });
+        return found[0] ? OptionalInt.of(result[0]) : OptionalInt.empty();
+    }
+
+    public OptionalInt min() {
+        return reduce(Math::min);
+    }
+
+    public OptionalInt max() {
+        return reduce(Math::max);
+    }
+
+    public IntSummaryStatistics summaryStatistics() {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        forEach(statistics);
+        return statistics;
+    }
+
+    public OptionalInt findFirst() {
+        int[] first = new int[1];
+        boolean[] found = {false};
+        push(value -> {
+            first[0] = value;
+            found[0] = true;
+            return false;
+        });
+        return found[0] ? OptionalInt.of(first[0]) : OptionalInt.empty();
+    }
+
+    // The result of push is not used here: limit also stops the source
+    public boolean anyMatch(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        boolean[] found = {false};
+        push(value -> !(found[0] = predicate.test(value)));
+        return found[0];
+    }
+
+    public boolean allMatch(IntPredicate predicate) {
+        return !anyMatch(predicate.negate());
+    }
+
+    public boolean noneMatch(IntPredicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+    public int[] toArray() {
+        Buffer buffer = new Buffer();
+        forEach(buffer);
+        return Arrays.copyOf(buffer.data, buffer.size);
+    }
+
+    public IntArrayList toList() {
+        IntArrayList list = new IntArrayList();
+        forEach(list::add);
+        return list;
+    }
+
+    // distinct values (boxed().collect(Collectors.toSet()))
+    public IntHashSet toSet() {
+        IntHashSet set = new IntHashSet();
+        forEach(set::add);
+        return set;
+    }
+
+    // Occurrences per key (groupingBy(key, counting()) with int keys and int counts)
+    public Int2IntHashMap countBy(IntUnaryOperator key) {
+        Objects.requireNonNull(key);
+        Int2IntHashMap counts = new Int2IntHashMap();
+        forEach(value -> counts.addTo(key.applyAsInt(value), 1));
+        return counts;
+    }
+
+    // IntStream.collect without the combiner (sequential)
+    public <R> R collect(Supplier<R> supplier, ObjIntConsumer<R> accumulator) {
+        Objects.requireNonNull(accumulator);
+        R container = supplier.get();
+        forEach(value -> accumulator.accept(container, value));
+        return container;
+    }
+
+    static void checkCount(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative count: " + n);
+        }
+    }
+
+    // Growable int[] for toArray and the flatMap scratch space
+    private static final class Buffer implements IntConsumer {
+        int[] data = new int[16];
+        int size;
+
+        @Override
+        public void accept(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+    }
+}
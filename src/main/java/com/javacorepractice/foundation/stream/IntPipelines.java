@@ -0,0 +1,75 @@
+package com.javacorepractice.foundation.stream;
+
+import com.javacorepractice.foundation.hash.Int2ObjectHashMap;
+import com.javacorepractice.foundation.hash.IntHashSet;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/*
+ IntStream versions of the StreamExamples pipelines: same results, no Integer objects.
+ Every method takes 'parallel' so the sequential / parallel variants can be compared directly.
+
+ StreamExamples                                    here
+ basicPipelineDemo  filter/map/collect(toList())   evenTimesTen      -> int[]
+ reduceDemo         mapToInt(...).sum()            sum               -> long (no int overflow)
+ uniqueElementsDemo distinct().collect(toSet())    distinct          -> IntHashSet
+                    distinct().collect(toList())   distinctInOrder   -> int[] (encounter order)
+ listToMapDemo      toMap(String::length, ...)     byLength          -> Int2ObjectHashMap<String>
+ groupingDemo       groupingBy(first char)         groupByFirstChar  -> Int2ObjectHashMap<List<String>>
+ flatMapDemo        flatMap(List::stream)          flatten           -> int[]
+*/
+public final class IntPipelines {
+
+    private IntPipelines() {
+    }
+
+    public static int[] evenTimesTen(int[] values, boolean parallel) {
+        return stream(values, parallel)
+                .filter(x -> x % 2 == 0)
+                .map(x -> x * 10)
+                .toArray();
+    }
+
+    public static long sum(int[] values, boolean parallel) {
+        return stream(values, parallel).asLongStream().sum();
+    }
+
+    public static IntHashSet distinct(int[] values, boolean parallel) {
+        return PrimitiveCollectors.distinct(stream(values, parallel));
+    }
+
+    /*
+     Like distinct().toArray(): first occurrences in encounter order.
+     Sequential on purpose — keeping encounter order in a parallel distinct costs more than it
+     saves; use distinct(values, true) when the order does not matter.
+    */
+    public static int[] distinctInOrder(int[] values) {
+        IntHashSet seen = new IntHashSet();
+        return Arrays.stream(values).filter(seen::add).toArray();
+    }
+
+    // length -> first string with that length (merge keeps the existing value, as in listToMapDemo)
+    public static Int2ObjectHashMap<String> byLength(List<String> words, boolean parallel) {
+        return (parallel ? words.parallelStream() : words.stream())
+                .collect(PrimitiveCollectors.toInt2ObjectMap(String::length, s -> s, (a, b) -> a));
+    }
+
+    // lower-case first char (as int) -> words
+    public static Int2ObjectHashMap<List<String>> groupByFirstChar(List<String> words, boolean parallel) {
+        return (parallel ? words.parallelStream() : words.stream())
+                .collect(PrimitiveCollectors.groupingByInt(s -> Character.toLowerCase(s.charAt(0))));
+    }
+
+    public static int[] flatten(int[][] lists, boolean parallel) {
+        IntStream flat = (parallel ? Arrays.stream(lists).parallel() : Arrays.stream(lists))
+                .flatMapToInt(IntStream::of);
+        return flat.toArray();
+    }
+
+    private static IntStream stream(int[] values, boolean parallel) {
+        IntStream stream = Arrays.stream(values);
+        return parallel ? stream.parallel() : stream;
+    }
+}
@@ -0,0 +1,291 @@
+package com.javacorepractice.foundation.stream;
+
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/*
+ Lazy fused pipeline over a long[] (or a range) — LongStream counterpart of IntPipe,
+ same execution model: stages are fused into one sink chain at the terminal operation,
+ nothing is allocated per element. Results equal the matching LongStream pipeline.
+*/
+public abstract class LongPipe {
+
+    // Receives pushed elements; false = stop pushing
+    interface Sink {
+        boolean accept(long value);
+    }
+
+    // flatMap function: writes 0..n values for one element into out
+    @FunctionalInterface
+    public interface Expander {
+        void expand(long value, LongConsumer out);
+    }
+
+    LongPipe() {
+    }
+
+    // Pushes every element into the sink until it returns false; returns false if stopped early
+    abstract boolean push(Sink sink);
+
+    public static LongPipe of(long... values) {
+        return of(values, 0, values.length);
+    }
+
+    // Elements values[from..to)
+    public static LongPipe of(long[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return new LongPipe() {
+            @Override
+            boolean push(Sink sink) {
+                for (int i = from; i < to; i++) {
+                    if (!sink.accept(values[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    // from, from + 1, ..., to - 1 (LongStream.range)
+    public static LongPipe range(long from, long to) {
+        return new LongPipe() {
+            @Override
+            boolean push(Sink sink) {
+                for (long i = from; i < to; i++) {
+                    if (!sink.accept(i)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    // ---- intermediate operations (lazy) ----
+
+    public LongPipe filter(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        LongPipe upstream = this;
+        return new LongPipe() {
+            @Override
+            boolean push(Sink sink) {
+                return upstream.push(value -> !predicate.test(value) || sink.accept(value));
+            }
+        };
+    }
+
+    public LongPipe map(LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        LongPipe upstream = this;
+        return new LongPipe() {
+            @Override
+            boolean push(Sink sink) {
+                return upstream.push(value -> sink.accept(mapper.applyAsLong(value)));
+            }
+        };
+    }
+
+    public IntPipe mapToInt(LongToIntFunction mapper) {
+        Objects.requireNonNull(mapper);
+        LongPipe upstream = this;
+        return new IntPipe() {
+            @Override
+            boolean push(IntPipe.Sink sink) {
+                return upstream.push(value -> sink.accept(mapper.applyAsInt(value)));
+            }
+        };
+    }
+
+    public DoublePipe mapToDouble(LongToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper);
+        LongPipe upstream = this;
+        return new DoublePipe() {
+            @Override
+            boolean push(DoublePipe.Sink sink) {
+                return upstream.push(value -> sink.accept(mapper.applyAsDouble(value)));
+            }
+        };
+    }
+
+    public DoublePipe asDoublePipe() {
+        return mapToDouble(value -> value);
+    }
+
+    // LongStream.flatMap into a scratch buffer reused for every element, see IntPipe.flatMap
+    public LongPipe flatMap(Expander expander) {
+        Objects.requireNonNull(expander);
+        LongPipe upstream = this;
+        return new LongPipe() {
+            @Override
+            boolean push(Sink sink) {
+                Buffer scratch = new Buffer();
+                return upstream.push(value -> {
+                    scratch.size = 0;
+                    expander.expand(value, scratch);
+                    for (int i = 0; i < scratch.size; i++) {
+                        if (!sink.accept(scratch.data[i])) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+        };
+    }
+
+    public LongPipe limit(long maxSize) {
+        IntPipe.checkCount(maxSize);
+        LongPipe upstream = this;
+        return new LongPipe() {
+            @Override
+            boolean push(Sink sink) {
+                if (maxSize == 0) {
+                    return false;
+                }
+                long[] left = {maxSize};
+                return upstream.push(value -> sink.accept(value) && --left[0] > 0);
+            }
+        };
+    }
+
+    public LongPipe skip(long n) {
+        IntPipe.checkCount(n);
+        LongPipe upstream = this;
+        return new LongPipe() {
+            @Override
+            boolean push(Sink sink) {
+                long[] toSkip = {n};
+                return upstream.push(value -> toSkip[0] > 0 ? toSkip[0]-- > 0 : sink.accept(value));
+            }
+        };
+    }
+
+    // ---- terminal operations ----
+
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action);
+        push(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    public long count() {
+        long[] count = {0};
+        push(value -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    public long sum() {
+        long[] sum = {0};
+        push(value -> {
+            sum[0] += value;
+            return true;
+        });
+        return sum[0];
+    }
+
+    public long reduce(long identity, LongBinaryOperator op) {
+        Objects.requireNonNull(op);
+        long[] result = {identity};
+        push(value -> {
+            result[0] = op.applyAsLong(result[0], value);
+            return true;
+        });
+        return result[0];
+    }
+
+    public OptionalLong reduce(LongBinaryOperator op) {
+        Objects.requireNonNull(op);
+        long[] result = new long[1];
+        boolean[] found = {false};
+        push(value -> {
+            result[0] = found[0] ? op.applyAsLong(result[0], value) : value;
+            found[0] = true;
+            return true;
+        });
+        return found[0] ? OptionalLong.of(result[0]) : OptionalLong.empty();
+    }
+
+    public OptionalLong min() {
+        return reduce(Math::min);
+    }
+
+    public OptionalLong max() {
+        return reduce(Math::max);
+    }
+
+    public LongSummaryStatistics summaryStatistics() {
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        forEach(statistics);
+        return statistics;
+    }
+
+    public OptionalLong findFirst() {
+        long[] first = new long[1];
+        boolean[] found = {false};
+        push(value -> {
+            first[0] = value;
+            found[0] = true;
+            return false;
+        });
+        return found[0] ? OptionalLong.of(first[0]) : OptionalLong.empty();
+    }
+
+    public boolean anyMatch(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        boolean[] found = {false};
+        push(value -> !(found[0] = predicate.test(value)));
+        return found[0];
+    }
+
+    public boolean allMatch(LongPredicate predicate) {
+        return !anyMatch(predicate.negate());
+    }
+
+    public boolean noneMatch(LongPredicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+    public long[] toArray() {
+        Buffer buffer = new Buffer();
+        forEach(buffer);
+        return Arrays.copyOf(buffer.data, buffer.size);
+    }
+
+    // LongStream.collect without the combiner (sequential)
+    public <R> R collect(Supplier<R> supplier, ObjLongConsumer<R> accumulator) {
+        Objects.requireNonNull(accumulator);
+        R container = supplier.get();
+        forEach(value -> accumulator.accept(container, value));
+        return container;
+    }
+
+    // Growable long[] for toArray and the flatMap scratch space
+    private static final class Buffer implements LongConsumer {
+        long[] data = new long[16];
+        int size;
+
+        @Override
+        public void accept(long value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+    }
+}
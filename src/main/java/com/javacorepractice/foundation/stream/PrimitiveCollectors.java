@@ -0,0 +1,140 @@
+package com.javacorepractice.foundation.stream;
+
+import com.javacorepractice.foundation.hash.Int2IntHashMap;
+import com.javacorepractice.foundation.hash.Int2ObjectHashMap;
+import com.javacorepractice.foundation.hash.IntHashSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/*
+ Collectors for large (parallel) streams, next to the Collectors used in StreamExamples.
+
+ - concurrentGroupingBy: one shared ConcurrentHashMap filled by all threads of a parallel stream
+   (CONCURRENT + UNORDERED), map and per-key lists created at the expected size, so neither the
+   table nor the lists are resized while collecting and no per-thread maps are merged at the end
+   (Collectors.groupingBy merges one HashMap per split)
+ - toIntHashSet / distinct: distinct() without a boxed Integer and HashMap node per value
+ - toInt2IntMap / toInt2ObjectMap / groupingByInt: toMap / groupingBy with int keys
+   (no Integer key objects, one probe per element instead of get + put)
+
+ For parallel streams the non-concurrent collectors build one container per split and merge
+ them in the combiner, like the JDK collectors do.
+*/
+public final class PrimitiveCollectors {
+
+    private PrimitiveCollectors() {
+    }
+
+    /*
+     Like Collectors.groupingByConcurrent(classifier), with pre-sized buckets.
+     Elements of one key are appended under the lock of that key's list; different keys never contend.
+     Order inside a list is not the encounter order for parallel streams.
+    */
+    public static <T, K> Collector<T, ?, ConcurrentMap<K, List<T>>> concurrentGroupingBy(
+            Function<? super T, ? extends K> classifier, int expectedKeys, int expectedPerKey) {
+        if (expectedKeys < 0 || expectedPerKey < 0) {
+            throw new IllegalArgumentException("Negative expected size");
+        }
+        Function<K, List<T>> newBucket = key -> new ArrayList<>(expectedPerKey);
+        return Collector.<T, ConcurrentMap<K, List<T>>>of(
+                () -> new ConcurrentHashMap<>(Math.max(16, expectedKeys * 4 / 3 + 1)),
+                (map, element) -> {
+                    K key = classifier.apply(element);
+                    List<T> bucket = map.get(key);
+                    if (bucket == null) {
+                        bucket = map.computeIfAbsent(key, newBucket);
+                    }
+                    synchronized (bucket) {
+                        bucket.add(element);
+                    }
+                },
+                (left, right) -> {
+                    // only called for non-concurrent collection (not expected with CONCURRENT)
+                    right.forEach((key, list) -> left.merge(key, list, (a, b) -> {
+                        a.addAll(b);
+                        return a;
+                    }));
+                    return left;
+                },
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    // Distinct ints of a boxed stream
+    public static Collector<Integer, ?, IntHashSet> toIntHashSet() {
+        return Collector.of(
+                IntHashSet::new,
+                IntHashSet::add,
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                },
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    // Distinct values of an IntStream (sequential or parallel), no boxing at all
+    public static IntHashSet distinct(IntStream stream) {
+        return stream.collect(IntHashSet::new, IntHashSet::add, IntHashSet::addAll);
+    }
+
+    // Collectors.toMap(keyMapper, valueMapper, merge) with primitive int keys and values
+    public static <T> Collector<T, ?, Int2IntHashMap> toInt2IntMap(
+            ToIntFunction<? super T> keyMapper, ToIntFunction<? super T> valueMapper, IntBinaryOperator merge) {
+        return Collector.of(
+                Int2IntHashMap::new,
+                (map, element) -> map.merge(keyMapper.applyAsInt(element), valueMapper.applyAsInt(element), merge),
+                (left, right) -> {
+                    right.forEach((key, value) -> left.merge(key, value, merge));
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    // Collectors.toMap(keyMapper, valueMapper, merge) with int keys
+    public static <T, V> Collector<T, ?, Int2ObjectHashMap<V>> toInt2ObjectMap(
+            ToIntFunction<? super T> keyMapper, Function<? super T, ? extends V> valueMapper, BinaryOperator<V> merge) {
+        return Collector.of(
+                Int2ObjectHashMap::new,
+                (map, element) -> map.merge(keyMapper.applyAsInt(element), valueMapper.apply(element), merge),
+                (left, right) -> {
+                    right.forEach((key, value) -> left.merge(key, value, merge));
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    // Collectors.groupingBy(classifier) with an int key
+    public static <T> Collector<T, ?, Int2ObjectHashMap<List<T>>> groupingByInt(ToIntFunction<? super T> classifier) {
+        return Collector.of(
+                Int2ObjectHashMap::new,
+                (map, element) -> map.computeIfAbsent(classifier.applyAsInt(element), key -> new ArrayList<>()).add(element),
+                (left, right) -> {
+                    right.forEach((key, list) -> left.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list));
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    // Number of elements per int key (groupingBy(..., counting()) without Long boxes)
+    public static <T> Collector<T, ?, Int2IntHashMap> countingByInt(ToIntFunction<? super T> classifier) {
+        return Collector.of(
+                Int2IntHashMap::new,
+                (map, element) -> map.addTo(classifier.applyAsInt(element), 1),
+                (left, right) -> {
+                    right.forEach(left::addTo);
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+}
@@ -0,0 +1,202 @@
+package com.javacorepractice.foundation.strings;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+
+/*
+ Accent- and case-insensitive comparison without Normalizer on the hot path —
+ the fast version of StringBasics.equalsIgnoreAccents:
+
+     Normalizer.normalize(a, NFD).replaceAll("\\p{M}+", "")
+         .equalsIgnoreCase(Normalizer.normalize(b, NFD).replaceAll("\\p{M}+", ""))
+
+ That normalizes both strings completely (two new strings each, one regex) before looking at
+ the first char. Here each char is folded with one table lookup: base letter without
+ combining marks, then case-folded the way equalsIgnoreCase compares
+ (Character.toLowerCase(Character.toUpperCase(c))). Comparison folds both sides lazily and
+ stops at the first difference, so "Müller" vs "Meier" is decided at the second char.
+
+ Table: U+0000..U+052F (ASCII, Latin-1, Latin Extended-A/B, IPA, combining marks, Greek and
+ Coptic, Cyrillic) and U+1E00..U+1FFF (Latin Extended Additional, Greek Extended), 6 KB
+ per table, computed once from Normalizer so the results are the same as the NFD chain.
+ Only chars outside the table (and the few that decompose into more than one letter) go
+ through Normalizer, one code point at a time.
+
+ For grouping / dedupe use FoldedKey (hashCode and equals on the folded form without
+ building a String per lookup).
+*/
+public final class AccentFolding {
+
+    // Table values that are not chars: combining mark (dropped) and "ask Normalizer"
+    static final char MARK = '\uFFFF';
+    static final char SLOW = '\uFFFE';
+
+    private static final int LOW_END = 0x0530;
+    private static final int HIGH_START = 0x1E00;
+    private static final int HIGH_END = 0x2000;
+
+    // without accents / without accents and case
+    private static final char[] STRIPPED_LOW = new char[LOW_END];
+    private static final char[] STRIPPED_HIGH = new char[HIGH_END - HIGH_START];
+    private static final char[] FOLDED_LOW = new char[LOW_END];
+    private static final char[] FOLDED_HIGH = new char[HIGH_END - HIGH_START];
+
+    static {
+        fill(STRIPPED_LOW, FOLDED_LOW, 0);
+        fill(STRIPPED_HIGH, FOLDED_HIGH, HIGH_START);
+    }
+
+    // Accent- and case-insensitive order, ordered by the folded chars (like String.compareTo)
+    public static final Comparator<CharSequence> ORDER = AccentFolding::compare;
+
+    private AccentFolding() {
+    }
+
+    public static boolean equalsIgnoreAccents(CharSequence a, CharSequence b) {
+        return compare(a, b) == 0;
+    }
+
+    /*
+     Compares the folded forms without building them: walks both sequences, skips marks,
+     returns at the first differing folded char. Falls back to folding the rest of both
+     sequences when a char outside the table is reached.
+    */
+    public static int compare(CharSequence a, CharSequence b) {
+        int lengthA = a.length();
+        int lengthB = b.length();
+        int i = 0;
+        int j = 0;
+        while (true) {
+            char foldedA = 0;
+            while (i < lengthA && (foldedA = fold(a.charAt(i))) == MARK) {
+                i++;
+            }
+            char foldedB = 0;
+            while (j < lengthB && (foldedB = fold(b.charAt(j))) == MARK) {
+                j++;
+            }
+            boolean endA = i == lengthA;
+            boolean endB = j == lengthB;
+            if (!endA && foldedA == SLOW || !endB && foldedB == SLOW) {
+                return compareSlow(a, i, b, j);
+            }
+            if (endA || endB) {
+                return endA ? (endB ? 0 : -1) : 1;
+            }
+            if (foldedA != foldedB) {
+                return foldedA - foldedB;
+            }
+            i++;
+            j++;
+        }
+    }
+
+    // Folded form as a new String: fold("Crème Brûlée") = "creme brulee"
+    public static String fold(CharSequence text) {
+        return appendFolded(text, 0, new StringBuilder(text.length())).toString();
+    }
+
+    // Appends the folded form to out (reuse out with setLength(0))
+    public static StringBuilder fold(CharSequence text, StringBuilder out) {
+        return appendFolded(text, 0, out);
+    }
+
+    // Folded char, MARK for a combining mark, SLOW if the table has no answer
+    static char fold(char c) {
+        if (c < LOW_END) {
+            return FOLDED_LOW[c];
+        }
+        if (c >= HIGH_START && c < HIGH_END) {
+            return FOLDED_HIGH[c - HIGH_START];
+        }
+        return SLOW;
+    }
+
+    // Char without accents (case kept), MARK or SLOW
+    static char strip(char c) {
+        if (c < LOW_END) {
+            return STRIPPED_LOW[c];
+        }
+        if (c >= HIGH_START && c < HIGH_END) {
+            return STRIPPED_HIGH[c - HIGH_START];
+        }
+        return SLOW;
+    }
+
+    // \p{M}: non-spacing, enclosing and spacing combining marks
+    static boolean isMark(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.ENCLOSING_MARK
+                || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    /*
+     The slow path for one code point: NFD, marks dropped, optionally case-folded.
+     Calls appender for each resulting code point.
+    */
+    static void decompose(int codePoint, boolean caseFold, IntConsumer appender) {
+        if (isMark(codePoint)) {
+            return;
+        }
+        String decomposed = Normalizer.normalize(new String(Character.toChars(codePoint)), Normalizer.Form.NFD);
+        for (int k = 0; k < decomposed.length(); ) {
+            int part = decomposed.codePointAt(k);
+            k += Character.charCount(part);
+            if (!isMark(part)) {
+                appender.accept(caseFold ? caseFold(part) : part);
+            }
+        }
+    }
+
+    // The relation of String.equalsIgnoreCase as a mapping
+    static int caseFold(int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
+    private static int compareSlow(CharSequence a, int i, CharSequence b, int j) {
+        String restA = appendFolded(a, i, new StringBuilder()).toString();
+        String restB = appendFolded(b, j, new StringBuilder()).toString();
+        return restA.compareTo(restB);
+    }
+
+    static StringBuilder appendFolded(CharSequence text, int from, StringBuilder out) {
+        int length = text.length();
+        for (int i = from; i < length; i++) {
+            char c = text.charAt(i);
+            char folded = fold(c);
+            if (folded == MARK) {
+                continue;
+            }
+            if (folded != SLOW) {
+                out.append(folded);
+                continue;
+            }
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, text.charAt(++i));
+            }
+            decompose(codePoint, true, out::appendCodePoint);
+        }
+        return out;
+    }
+
+    private static void fill(char[] stripped, char[] folded, int offset) {
+        for (int k = 0; k < stripped.length; k++) {
+            char c = (char) (offset + k);
+            StringBuilder base = new StringBuilder(2);
+            decompose(c, false, base::appendCodePoint);
+            if (base.length() == 0) {
+                stripped[k] = MARK;
+                folded[k] = MARK;
+            } else if (base.length() == 1 && caseFold(base.charAt(0)) <= Character.MAX_VALUE) {
+                stripped[k] = base.charAt(0);
+                folded[k] = (char) caseFold(base.charAt(0));
+            } else {
+                stripped[k] = SLOW;  // decomposes into more than one letter
+                folded[k] = SLOW;
+            }
+        }
+    }
+}
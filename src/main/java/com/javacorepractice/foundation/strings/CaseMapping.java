@@ -0,0 +1,195 @@
+package com.javacorepractice.foundation.strings;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+ Locale-aware case conversion for StringBasics.toLowerEn / toLowerTr, with:
+ - cached Locale constants: new Locale("tr") on every call builds (and looks up in the
+   Locale cache) an object that never changes; TURKISH / AZERBAIJANI are created once;
+ - a Latin-1 fast path for Turkish / Azerbaijani: one table lookup per char, where
+   String.toLowerCase falls back to its general per-code-point path as soon as a char
+   changes; the input instance itself is returned when no char changes. Other locales go
+   straight to String, whose own Latin-1 path already does the same (and builds the result
+   in one allocation — a char[] copy here measured 2x slower, see CaseMappingBenchmark);
+ - bulk in-place lowercasing of String[] / List on a ForkJoinPool.
+
+ Results are the same as String.toLowerCase(locale) / toUpperCase(locale):
+ - Turkish and Azerbaijani: I -> dotless i (U+0131), dotted capital I (U+0130) -> i;
+                            upper case: i -> U+0130, U+0131 -> I
+ - other locales:           I -> i, U+0130 -> i + U+0307 (combining dot above, two chars)
+ In the Turkic fast path any char above U+00FF (and sharp s for upper case, which becomes
+ "SS") hands the whole string to the JDK.
+*/
+public final class CaseMapping {
+
+    public static final Locale TURKISH = Locale.forLanguageTag("tr");
+    public static final Locale AZERBAIJANI = Locale.forLanguageTag("az");
+
+    // strings per fork/join leaf in the bulk methods
+    public static final int BULK_THRESHOLD = 1 << 12;
+
+    private static final char NO_SIMPLE_MAPPING = '\uFFFF';
+    private static final char DOTLESS_I = '\u0131';
+    private static final char DOTTED_CAPITAL_I = '\u0130';
+
+    // Latin-1 char -> its lower / upper case (one char), or NO_SIMPLE_MAPPING
+    private static final char[] LOWER = new char[256];
+    private static final char[] UPPER = new char[256];
+
+    static {
+        for (char c = 0; c < 256; c++) {
+            LOWER[c] = simpleMapping(String.valueOf(c).toLowerCase(Locale.ROOT));
+            UPPER[c] = simpleMapping(String.valueOf(c).toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private CaseMapping() {
+    }
+
+    // Same as text.toLowerCase(locale); returns text itself if it is already lower case
+    public static String toLowerCase(String text, Locale locale) {
+        return map(text, locale, LOWER, 'I', DOTLESS_I, false);
+    }
+
+    // Same as text.toUpperCase(locale); returns text itself if it is already upper case
+    public static String toUpperCase(String text, Locale locale) {
+        return map(text, locale, UPPER, 'i', DOTTED_CAPITAL_I, true);
+    }
+
+    private static String map(String text, Locale locale, char[] table, char turkicFrom, char turkicTo, boolean upper) {
+        if (!isTurkic(locale)) {
+            return jdk(text, locale, upper);
+        }
+        int length = text.length();
+        int i = 0;
+        char c;
+        // skip the prefix that does not change
+        while (i < length && (c = text.charAt(i)) < 256 && table[c] == c) {
+            i++;
+        }
+        if (i == length) {
+            return text;
+        }
+        char[] out = new char[length];
+        text.getChars(0, i, out, 0);
+        for (; i < length; i++) {
+            c = text.charAt(i);
+            char mapped = c < 256 ? table[c] : NO_SIMPLE_MAPPING;
+            if (mapped == NO_SIMPLE_MAPPING) {
+                return jdk(text, locale, upper);
+            }
+            out[i] = c == turkicFrom ? turkicTo : mapped;
+        }
+        return new String(out);
+    }
+
+    /*
+     Lowercases every element in place (null elements are kept); returns how many were replaced.
+     Arrays longer than BULK_THRESHOLD are split across the common ForkJoinPool.
+    */
+    public static int toLowerCaseAll(String[] values, Locale locale) {
+        return toLowerCaseAll(values, locale, ForkJoinPool.commonPool());
+    }
+
+    public static int toLowerCaseAll(String[] values, Locale locale, ForkJoinPool pool) {
+        LowerCaseTask task = new LowerCaseTask(values, null, locale, 0, values.length);
+        return values.length <= BULK_THRESHOLD ? task.compute() : pool.invoke(task);
+    }
+
+    /*
+     List version: RandomAccess lists (ArrayList, Arrays.asList) are split like arrays —
+     set() on disjoint indexes needs no locking; other lists are updated sequentially.
+     The list must not be modified structurally while this runs.
+    */
+    public static int toLowerCaseAll(List<String> values, Locale locale) {
+        return toLowerCaseAll(values, locale, ForkJoinPool.commonPool());
+    }
+
+    public static int toLowerCaseAll(List<String> values, Locale locale, ForkJoinPool pool) {
+        if (!(values instanceof RandomAccess)) {
+            int replaced = 0;
+            for (ListIterator<String> it = values.listIterator(); it.hasNext(); ) {
+                String value = it.next();
+                String lower = value == null ? null : toLowerCase(value, locale);
+                if (lower != value) {
+                    it.set(lower);
+                    replaced++;
+                }
+            }
+            return replaced;
+        }
+        LowerCaseTask task = new LowerCaseTask(null, values, locale, 0, values.size());
+        return values.size() <= BULK_THRESHOLD ? task.compute() : pool.invoke(task);
+    }
+
+    private static boolean isTurkic(Locale locale) {
+        if (locale == TURKISH || locale == AZERBAIJANI) {
+            return true;
+        }
+        String language = locale.getLanguage();
+        return language.equals("tr") || language.equals("az");
+    }
+
+    private static String jdk(String text, Locale locale, boolean upper) {
+        return upper ? text.toUpperCase(locale) : text.toLowerCase(locale);
+    }
+
+    private static char simpleMapping(String mapped) {
+        return mapped.length() == 1 ? mapped.charAt(0) : NO_SIMPLE_MAPPING;
+    }
+
+    // Range [from, to) of the array or the list; halves until BULK_THRESHOLD
+    private static final class LowerCaseTask extends RecursiveTask<Integer> {
+        private final String[] array;
+        private final List<String> list;
+        private final Locale locale;
+        private final int from;
+        private final int to;
+
+        LowerCaseTask(String[] array, List<String> list, Locale locale, int from, int to) {
+            this.array = array;
+            this.list = list;
+            this.locale = locale;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= BULK_THRESHOLD) {
+                return lowerRange();
+            }
+            int middle = (from + to) >>> 1;
+            LowerCaseTask left = new LowerCaseTask(array, list, locale, from, middle);
+            LowerCaseTask right = new LowerCaseTask(array, list, locale, middle, to);
+            left.fork();
+            int replaced = right.compute();
+            return replaced + left.join();
+        }
+
+        private int lowerRange() {
+            int replaced = 0;
+            for (int i = from; i < to; i++) {
+                String value = array != null ? array[i] : list.get(i);
+                if (value == null) {
+                    continue;
+                }
+                String lower = toLowerCase(value, locale);
+                if (lower != value) {
+                    if (array != null) {
+                        array[i] = lower;
+                    } else {
+                        list.set(i, lower);
+                    }
+                    replaced++;
+                }
+            }
+            return replaced;
+        }
+    }
+}
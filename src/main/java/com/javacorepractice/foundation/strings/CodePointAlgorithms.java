@@ -0,0 +1,122 @@
+package com.javacorepractice.foundation.strings;
+
+/*
+ Unicode-correct versions of StringAlgorithms.removeDuplicateChars and collapseAdjacentRuns.
+ - work on code points: a surrogate pair (emoji, CJK extension, ...) is one character
+   and is never split; an unpaired surrogate is treated as a character of its own
+ - no limit on the char range (the boolean[256] table in removeDuplicateChars
+   throws ArrayIndexOutOfBoundsException for chars above 255)
+ - write into a caller-supplied StringBuilder or char[]; with a reused sink and CodePointSet
+   a call allocates nothing
+ - Latin-1 fast path: chars below 256 are handled in a tight loop with a bitset lookup,
+   the general code point path starts only at the first char outside Latin-1
+*/
+public final class CodePointAlgorithms {
+
+    private CodePointAlgorithms() {
+    }
+
+    // Keeps the first occurrence of every code point; 'seen' is cleared before use
+    public static void removeDuplicates(CharSequence src, CodePointSet seen, StringBuilder sink) {
+        seen.clear();
+        int length = src.length();
+        int i = 0;
+        // Latin-1 fast path
+        while (i < length) {
+            char c = src.charAt(i);
+            if (c >= 256) {
+                break;
+            }
+            if (seen.add(c)) {
+                sink.append(c);
+            }
+            i++;
+        }
+        while (i < length) {
+            int codePoint = Character.codePointAt(src, i);
+            if (seen.add(codePoint)) {
+                sink.appendCodePoint(codePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+    }
+
+    /*
+     Same over src[from, to) into dst starting at dstPos; returns the number of chars written.
+     dst needs at most (to - from) free chars; dst may be the same array as src with
+     dstPos <= from (in-place compaction), because output never overtakes input.
+    */
+    public static int removeDuplicates(char[] src, int from, int to, CodePointSet seen, char[] dst, int dstPos) {
+        seen.clear();
+        int write = dstPos;
+        int i = from;
+        while (i < to) {
+            char c = src[i];
+            if (c >= 256) {
+                break;
+            }
+            if (seen.add(c)) {
+                dst[write++] = c;
+            }
+            i++;
+        }
+        while (i < to) {
+            int codePoint = Character.codePointAt(src, i, to);
+            int count = Character.charCount(codePoint);
+            if (seen.add(codePoint)) {
+                dst[write++] = src[i];
+                if (count == 2) {
+                    dst[write++] = src[i + 1];
+                }
+            }
+            i += count;
+        }
+        return write - dstPos;
+    }
+
+    // Replaces every run of the same code point with one occurrence: "aaabbcdddaaa" -> "abcda"
+    public static void collapseAdjacentRuns(CharSequence src, StringBuilder sink) {
+        int length = src.length();
+        int previous = -1;
+        int i = 0;
+        while (i < length) {
+            char c = src.charAt(i);
+            if (c >= 256) {
+                break;
+            }
+            if (c != previous) {
+                sink.append(c);
+                previous = c;
+            }
+            i++;
+        }
+        while (i < length) {
+            int codePoint = Character.codePointAt(src, i);
+            if (codePoint != previous) {
+                sink.appendCodePoint(codePoint);
+                previous = codePoint;
+            }
+            i += Character.charCount(codePoint);
+        }
+    }
+
+    // char[] version; same in-place rule as removeDuplicates
+    public static int collapseAdjacentRuns(char[] src, int from, int to, char[] dst, int dstPos) {
+        int write = dstPos;
+        int previous = -1;
+        int i = from;
+        while (i < to) {
+            int codePoint = src[i] < 256 ? src[i] : Character.codePointAt(src, i, to);
+            int count = Character.charCount(codePoint);
+            if (codePoint != previous) {
+                dst[write++] = src[i];
+                if (count == 2) {
+                    dst[write++] = src[i + 1];
+                }
+                previous = codePoint;
+            }
+            i += count;
+        }
+        return write - dstPos;
+    }
+}
@@ -0,0 +1,121 @@
+package com.javacorepractice.foundation.strings;
+
+import java.util.Arrays;
+
+/*
+ Reusable "seen" set of Unicode code points for the dedupe algorithms.
+ - Latin-1 (0..255): a 256-bit bitset in four longs — one shift and mask per check
+ - everything else: open-addressing hash set (linear probing) of int code points
+ clear() is O(1) for the hash part: every slot carries the generation it was written in,
+ and a new generation makes all old slots look empty without touching the arrays.
+ One instance per thread; reuse it across calls so the hot path allocates nothing.
+*/
+public final class CodePointSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final long[] latin1 = new long[4];
+    private int[] keys;
+    private int[] stamps; // slot is used only if stamps[i] == generation
+    private int generation = 1;
+    private int size;
+    private int hashedSize;
+
+    public CodePointSet() {
+        this(MIN_CAPACITY);
+    }
+
+    // expected = number of distinct non-Latin-1 code points before the table grows
+    public CodePointSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expected * 2 - 1)) << 1;
+        keys = new int[capacity];
+        stamps = new int[capacity];
+    }
+
+    // Returns true if the code point was not in the set yet
+    public boolean add(int codePoint) {
+        if (codePoint < 256) {
+            long bit = 1L << codePoint; // shift uses only the low 6 bits
+            int word = codePoint >>> 6;
+            if ((latin1[word] & bit) != 0) {
+                return false;
+            }
+            latin1[word] |= bit;
+            size++;
+            return true;
+        }
+        int mask = keys.length - 1;
+        int slot = mix(codePoint) & mask;
+        while (stamps[slot] == generation) {
+            if (keys[slot] == codePoint) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = codePoint;
+        stamps[slot] = generation;
+        size++;
+        if (++hashedSize * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(int codePoint) {
+        if (codePoint < 256) {
+            return (latin1[codePoint >>> 6] & (1L << codePoint)) != 0;
+        }
+        int mask = keys.length - 1;
+        int slot = mix(codePoint) & mask;
+        while (stamps[slot] == generation) {
+            if (keys[slot] == codePoint) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        latin1[0] = 0;
+        latin1[1] = 0;
+        latin1[2] = 0;
+        latin1[3] = 0;
+        size = 0;
+        hashedSize = 0;
+        if (++generation == 0) {
+            // after 2^32 clears the counter wraps: reset the stamps once
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldStamps = stamps;
+        int oldGeneration = generation;
+        keys = new int[oldKeys.length * 2];
+        stamps = new int[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStamps[i] == oldGeneration) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (stamps[slot] == generation) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                stamps[slot] = generation;
+            }
+        }
+    }
+
+    // Code points of one script are consecutive numbers; spread them over the table
+    private static int mix(int x) {
+        x *= 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+}
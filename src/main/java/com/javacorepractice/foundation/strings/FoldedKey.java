@@ -0,0 +1,134 @@
+package com.javacorepractice.foundation.strings;
+
+import java.util.Arrays;
+
+/*
+ Accent- and case-folded form of a string as a reusable hash key (see AccentFolding).
+
+ Dedupe / grouping by "same name ignoring accents" with a HashMap<String, ...> needs a folded
+ String per lookup. A FoldedKey keeps the folded chars in its own growing char[] and computes
+ the hash while folding, so one instance can be reset for every record:
+
+     FoldedKey probe = new FoldedKey();
+     for (String name : names) {
+         List<String> group = groups.get(probe.set(name));
+         if (group == null) {
+             groups.put(probe.copy(), group = new ArrayList<>());   // store a copy, never the probe
+         }
+         group.add(name);
+     }
+
+ hashCode() equals AccentFolding.fold(text).hashCode(); equals() compares folded chars.
+ A key must not be changed (set) while it is stored in a map — store copy().
+ Not thread-safe.
+*/
+public final class FoldedKey implements CharSequence {
+
+    private char[] chars;
+    private int length;
+    private int hash;
+
+    public FoldedKey() {
+        chars = new char[16];
+    }
+
+    public FoldedKey(CharSequence text) {
+        chars = new char[Math.max(16, text.length())];
+        set(text);
+    }
+
+    private FoldedKey(char[] chars, int hash) {
+        this.chars = chars;
+        this.length = chars.length;
+        this.hash = hash;
+    }
+
+    // Replaces the content with the folded form of text; returns this
+    public FoldedKey set(CharSequence text) {
+        int textLength = text.length();
+        if (chars.length < textLength) {
+            chars = new char[Math.max(textLength, chars.length * 2)];
+        }
+        char[] chars = this.chars;
+        int n = 0;
+        int h = 0;
+        for (int i = 0; i < textLength; i++) {
+            char folded = AccentFolding.fold(text.charAt(i));
+            if (folded == AccentFolding.MARK) {
+                continue;
+            }
+            if (folded == AccentFolding.SLOW) {
+                // rare: let AccentFolding fold the rest, then copy it in
+                this.length = n;
+                this.hash = h;
+                appendSlow(text, i);
+                return this;
+            }
+            chars[n++] = folded;
+            h = 31 * h + folded;
+        }
+        this.length = n;
+        this.hash = h;
+        return this;
+    }
+
+    private void appendSlow(CharSequence text, int from) {
+        StringBuilder rest = AccentFolding.appendFolded(text, from, new StringBuilder());
+        if (chars.length < length + rest.length()) {
+            chars = Arrays.copyOf(chars, length + rest.length());
+        }
+        int h = hash;
+        for (int k = 0; k < rest.length(); k++) {
+            char c = rest.charAt(k);
+            chars[length++] = c;
+            h = 31 * h + c;
+        }
+        hash = h;
+    }
+
+    // Independent key with the same content, safe to store in a map
+    public FoldedKey copy() {
+        return new FoldedKey(Arrays.copyOf(chars, length), hash);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FoldedKey)) {
+            return false;
+        }
+        FoldedKey other = (FoldedKey) o;
+        return hash == other.hash && Arrays.equals(chars, 0, length, other.chars, 0, other.length);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    // The folded text
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+}
@@ -0,0 +1,40 @@
+package com.javacorepractice.foundation.strings;
+
+import com.javacorepractice.foundation.cache.BoundedCache;
+import com.javacorepractice.foundation.cache.CacheStats;
+
+import java.util.regex.Pattern;
+
+/*
+ Shared registry of compiled regexes. String.split / replaceAll / matches compile their
+ Pattern on every call (String.split skips that only for one-char literals); Pattern.compile
+ builds a node tree each time. Patterns are immutable and thread-safe, so one compiled
+ instance per regex can serve every caller.
+
+ Bounded (BoundedCache, frequency-aware eviction) so regexes built from data cannot grow
+ it without limit.
+*/
+public final class PatternCache {
+
+    private static final int MAXIMUM_SIZE = 512;
+
+    private static final BoundedCache<String, Pattern> CACHE = BoundedCache.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    private PatternCache() {
+    }
+
+    // Pattern.compile(regex), compiled once per distinct regex while it stays in the cache
+    public static Pattern compile(String regex) {
+        return CACHE.get(regex, Pattern::compile);
+    }
+
+    public static long size() {
+        return CACHE.estimatedSize();
+    }
+
+    public static CacheStats stats() {
+        return CACHE.stats();
+    }
+}
@@ -0,0 +1,457 @@
+package com.javacorepractice.foundation.strings;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/*
+ Chunked text builder for very large outputs — the structure missing from
+ StringBasics.compareConcatPerformance: "+", StringBuilder, StringBuffer and StringJoiner all
+ keep one contiguous char[] that is copied to a twice larger one whenever it is full, so a
+ 100 MB report is copied ~log2(100 MB / 16) times plus once more by toString().
+
+ A Rope is a sequence of chunks; full chunks are never copied or resized:
+ - append(...)      fills the last chunk, then adds a new one (chunk size grows with the text,
+                    from 256 up to 64K chars) — O(k) for k chars, no copy of existing text;
+ - prepend(...)     fills the first chunk from its end backwards — same cost at the front
+                    (StringBuilder.insert(0, ..) moves the whole buffer);
+ - Strings of 512+ chars and other Ropes are not copied at all: the chunk references them
+   (Strings are immutable; the shared part of a Rope is never written again);
+ - subSequence()    is a view: a new Rope whose chunks point into the same arrays,
+                    O(number of chunks), no chars copied;
+ - writeTo(Writer) / writeTo(channel, charset) stream chunk by chunk without building a String.
+
+ charAt is a binary search over the chunks (O(log chunks)); prefer writeTo / toString for
+ sequential reads. Existing chars are never modified (only append / prepend), which is what
+ makes sharing safe: a chunk may be extended only by the Rope that created it, and only
+ outside every range shared so far. Not thread-safe.
+*/
+public final class Rope implements CharSequence {
+
+    private static final int MIN_CHUNK = 256;
+    private static final int MAX_CHUNK = 1 << 16;
+    private static final int SHARE_THRESHOLD = 512;  // Strings at least this long are referenced, not copied
+    private static final int ENCODE_BUFFER = 1 << 14;
+
+    // text = reverse(front) + back; each list only grows at its end, so both ends are O(1)
+    private Chunk[] front = new Chunk[4];
+    private int frontCount;
+    private Chunk[] back = new Chunk[8];
+    private int backCount;
+    private int frontLength;
+    private int backLength;
+    private final char[] digits = new char[20];  // scratch for append(long)
+
+    public Rope() {
+    }
+
+    public Rope(CharSequence text) {
+        append(text);
+    }
+
+    public Rope append(CharSequence text) {
+        if (text instanceof Rope) {
+            return appendRope((Rope) text);
+        }
+        int n = text.length();
+        checkGrowth(n);
+        if (n >= SHARE_THRESHOLD && text instanceof String) {
+            addBack(Chunk.shared((String) text, 0, n));
+            return this;
+        }
+        int i = 0;
+        while (i < n) {
+            Chunk tail = writableTail(n - i);
+            int k = Math.min(n - i, tail.chars.length - tail.end);
+            copyChars(text, i, i + k, tail.chars, tail.end);
+            tail.end += k;
+            tail.total += k;
+            backLength += k;
+            i += k;
+        }
+        return this;
+    }
+
+    public Rope append(char c) {
+        checkGrowth(1);
+        Chunk tail = writableTail(1);
+        tail.chars[tail.end++] = c;
+        tail.total++;
+        backLength++;
+        return this;
+    }
+
+    // Decimal digits copied straight into the chunk (no String per number)
+    public Rope append(long value) {
+        char[] digits = this.digits;
+        int p = digits.length;
+        long v = value;
+        do {
+            digits[--p] = (char) ('0' + Math.abs(v % 10));
+            v /= 10;
+        } while (v != 0);
+        if (value < 0) {
+            digits[--p] = '-';
+        }
+        checkGrowth(digits.length - p);
+        while (p < digits.length) {
+            Chunk tail = writableTail(digits.length - p);
+            int k = Math.min(digits.length - p, tail.chars.length - tail.end);
+            System.arraycopy(digits, p, tail.chars, tail.end, k);
+            tail.end += k;
+            tail.total += k;
+            backLength += k;
+            p += k;
+        }
+        return this;
+    }
+
+    public Rope prepend(CharSequence text) {
+        if (text instanceof Rope) {
+            return prependRope((Rope) text);
+        }
+        int n = text.length();
+        checkGrowth(n);
+        if (n >= SHARE_THRESHOLD && text instanceof String) {
+            addFront(Chunk.shared((String) text, 0, n));
+            return this;
+        }
+        int i = n;  // text[0, i) is still to be written, last part first
+        while (i > 0) {
+            Chunk head = writableHead(i);
+            int k = Math.min(i, head.start);
+            copyChars(text, i - k, i, head.chars, head.start - k);
+            head.start -= k;
+            head.total += k;
+            frontLength += k;
+            i -= k;
+        }
+        return this;
+    }
+
+    public Rope prepend(char c) {
+        checkGrowth(1);
+        Chunk head = writableHead(1);
+        head.chars[--head.start] = c;
+        head.total++;
+        frontLength++;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return frontLength + backLength;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length());
+        }
+        if (index < frontLength) {
+            int distance = frontLength - 1 - index;  // 0 = the last char of the front part
+            int k = search(front, frontCount, distance);
+            Chunk chunk = front[k];
+            int before = k == 0 ? 0 : front[k - 1].total;
+            return chunk.charAt(chunk.end - 1 - (distance - before));
+        }
+        int offset = index - frontLength;
+        int k = search(back, backCount, offset);
+        Chunk chunk = back[k];
+        int before = k == 0 ? 0 : back[k - 1].total;
+        return chunk.charAt(chunk.start + offset - before);
+    }
+
+    // View of [start, end) sharing this Rope's chunks; later appends to either side do not affect the other
+    @Override
+    public Rope subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") of length " + length());
+        }
+        Rope view = new Rope();
+        forEachSlice(start, end, (chunk, from, to) -> view.addBack(chunk.slice(from, to)));
+        return view;
+    }
+
+    // Number of chunks (grows ~logarithmically up to 64K chars per chunk, then linearly)
+    public int chunkCount() {
+        return frontCount + backCount;
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        forEachSlice(0, length(), (chunk, from, to) -> {
+            if (chunk.chars != null) {
+                writer.write(chunk.chars, from, to - from);
+            } else {
+                writer.write(chunk.text, from, to - from);
+            }
+        });
+    }
+
+    /*
+     Encodes chunk by chunk through one 16 KB buffer; returns the number of bytes written.
+     Malformed / unmappable chars are replaced, as in String.getBytes(charset). A surrogate
+     pair split between two chunks is carried over to the next one.
+    */
+    public long writeTo(WritableByteChannel channel, Charset charset) throws IOException {
+        CharsetEncoder encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer out = ByteBuffer.allocate(ENCODE_BUFFER);
+        CharBuffer pending = CharBuffer.allocate(2);  // a dangling high surrogate + the next char
+        long[] written = new long[1];
+        forEachSlice(0, length(), (chunk, from, to) -> {
+            CharBuffer in = chunk.chars != null
+                    ? CharBuffer.wrap(chunk.chars, from, to - from)
+                    : CharBuffer.wrap(chunk.text, from, to);
+            while (pending.position() > 0 && in.hasRemaining()) {
+                pending.put(in.get()).flip();
+                written[0] += encode(encoder, pending, out, channel, false);
+                pending.compact();  // at most one high surrogate is left
+            }
+            if (pending.position() == 0) {
+                written[0] += encode(encoder, in, out, channel, false);
+                if (in.hasRemaining()) {
+                    pending.put(in.get());
+                }
+            }
+        });
+        pending.flip();
+        written[0] += encode(encoder, pending, out, channel, true);
+        CoderResult result;
+        while ((result = encoder.flush(out)).isOverflow()) {
+            written[0] += drain(out, channel);
+        }
+        throwIfError(result);
+        return written[0] + drain(out, channel);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length()];
+        int[] position = new int[1];
+        forEachSlice(0, length(), (chunk, from, to) -> {
+            if (chunk.chars != null) {
+                System.arraycopy(chunk.chars, from, chars, position[0], to - from);
+            } else {
+                chunk.text.getChars(from, to, chars, position[0]);
+            }
+            position[0] += to - from;
+        });
+        return new String(chars);
+    }
+
+    private Rope appendRope(Rope other) {
+        checkGrowth(other.length());
+        int length = other.length();  // snapshot: other may be this
+        Chunk[] slices = new Chunk[other.chunkCount()];
+        int[] count = new int[1];
+        other.forEachSlice(0, length, (chunk, from, to) -> slices[count[0]++] = chunk.slice(from, to));
+        for (int k = 0; k < count[0]; k++) {
+            addBack(slices[k]);
+        }
+        return this;
+    }
+
+    private Rope prependRope(Rope other) {
+        checkGrowth(other.length());
+        Chunk[] slices = new Chunk[other.chunkCount()];
+        int[] count = new int[1];
+        other.forEachSlice(0, other.length(), (chunk, from, to) -> slices[count[0]++] = chunk.slice(from, to));
+        for (int k = count[0] - 1; k >= 0; k--) {
+            addFront(slices[k]);
+        }
+        return this;
+    }
+
+    // Last chunk if this Rope may still write into it and it has room, else a new chunk
+    private Chunk writableTail(int needed) {
+        if (backCount > 0) {
+            Chunk tail = back[backCount - 1];
+            if (tail.owner == this && tail.end < tail.chars.length) {
+                return tail;
+            }
+        }
+        Chunk chunk = new Chunk(new char[nextChunkSize(needed)], 0, 0, this);
+        addBack(chunk);
+        return chunk;
+    }
+
+    private Chunk writableHead(int needed) {
+        if (frontCount > 0) {
+            Chunk head = front[frontCount - 1];
+            if (head.owner == this && head.start > 0) {
+                return head;
+            }
+        }
+        int size = nextChunkSize(needed);
+        Chunk chunk = new Chunk(new char[size], size, size, this);
+        addFront(chunk);
+        return chunk;
+    }
+
+    // Grows with the text (about one chunk per doubling) but stays between MIN_CHUNK and MAX_CHUNK
+    private int nextChunkSize(int needed) {
+        return Math.max(MIN_CHUNK, Math.min(MAX_CHUNK, Math.max(needed, length())));
+    }
+
+    private void addBack(Chunk chunk) {
+        if (backCount == back.length) {
+            back = Arrays.copyOf(back, backCount * 2);
+        }
+        chunk.total = (backCount == 0 ? 0 : back[backCount - 1].total) + chunk.length();
+        back[backCount++] = chunk;
+        backLength += chunk.length();
+    }
+
+    private void addFront(Chunk chunk) {
+        if (frontCount == front.length) {
+            front = Arrays.copyOf(front, frontCount * 2);
+        }
+        chunk.total = (frontCount == 0 ? 0 : front[frontCount - 1].total) + chunk.length();
+        front[frontCount++] = chunk;
+        frontLength += chunk.length();
+    }
+
+    private void checkGrowth(int n) {
+        if (n > Integer.MAX_VALUE - length()) {
+            throw new IllegalStateException("Rope length would exceed Integer.MAX_VALUE: " + length() + " + " + n);
+        }
+    }
+
+    // First chunk whose running total is greater than offset
+    private static int search(Chunk[] chunks, int count, int offset) {
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (chunks[middle].total > offset) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    // Calls visitor for the parts of the chunks covering [start, end), in text order
+    private <E extends Exception> void forEachSlice(int start, int end, SliceVisitor<E> visitor) throws E {
+        int position = 0;
+        for (int k = frontCount - 1; k >= 0 && position < end; k--) {
+            position = visitSlice(front[k], position, start, end, visitor);
+        }
+        for (int k = 0; k < backCount && position < end; k++) {
+            position = visitSlice(back[k], position, start, end, visitor);
+        }
+    }
+
+    private static <E extends Exception> int visitSlice(Chunk chunk, int position, int start, int end,
+                                                        SliceVisitor<E> visitor) throws E {
+        int next = position + chunk.length();
+        if (next > start) {
+            int from = chunk.start + Math.max(0, start - position);
+            int to = chunk.end - Math.max(0, next - end);
+            if (from < to) {
+                visitor.visit(chunk, from, to);
+            }
+        }
+        return next;
+    }
+
+    private static void copyChars(CharSequence text, int from, int to, char[] target, int offset) {
+        if (text instanceof String) {
+            ((String) text).getChars(from, to, target, offset);
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(from, to, target, offset);
+        } else {
+            for (int i = from; i < to; i++) {
+                target[offset++] = text.charAt(i);
+            }
+        }
+    }
+
+    private static long encode(CharsetEncoder encoder, CharBuffer in, ByteBuffer out,
+                               WritableByteChannel channel, boolean endOfInput) throws IOException {
+        long written = 0;
+        CoderResult result;
+        while ((result = encoder.encode(in, out, endOfInput)).isOverflow()) {
+            written += drain(out, channel);
+        }
+        throwIfError(result);
+        return written;
+    }
+
+    private static long drain(ByteBuffer out, WritableByteChannel channel) throws IOException {
+        out.flip();
+        long written = out.remaining();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+        return written;
+    }
+
+    private static void throwIfError(CoderResult result) throws CharacterCodingException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
+    private interface SliceVisitor<E extends Exception> {
+        void visit(Chunk chunk, int from, int to) throws E;
+    }
+
+    /*
+     chars[start, end) of an owned buffer, or text[start, end) of a shared String.
+     total: sum of the chunk lengths up to and including this one in its list (front or back).
+    */
+    private static final class Chunk {
+        final char[] chars;
+        final String text;
+        final Rope owner;  // the only Rope allowed to extend this chunk; null when shared
+        int start;
+        int end;
+        int total;
+
+        Chunk(char[] chars, int start, int end, Rope owner) {
+            this.chars = chars;
+            this.text = null;
+            this.start = start;
+            this.end = end;
+            this.owner = owner;
+        }
+
+        private Chunk(String text, int start, int end) {
+            this.chars = null;
+            this.text = text;
+            this.start = start;
+            this.end = end;
+            this.owner = null;
+        }
+
+        static Chunk shared(String text, int start, int end) {
+            return new Chunk(text, start, end);
+        }
+
+        // Read-only chunk over the same chars
+        Chunk slice(int from, int to) {
+            return chars != null ? new Chunk(chars, from, to, null) : new Chunk(text, from, to);
+        }
+
+        int length() {
+            return end - start;
+        }
+
+        char charAt(int index) {
+            return chars != null ? chars[index] : text.charAt(index);
+        }
+    }
+}
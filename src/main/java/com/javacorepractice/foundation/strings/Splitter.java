@@ -0,0 +1,309 @@
+package com.javacorepractice.foundation.strings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+ Reusable, lazy splitter — the facility behind StringBasics.splitBySpace / splitBySpaceRegex.
+
+ str.split(regex) compiles the regex on every call (only one-char literals skip it), finds
+ every token up front into an ArrayList and copies it to a String[]. A Splitter is built
+ once and kept in a constant:
+ - on(char) and onWhitespace() scan chars directly (no regex at all);
+ - onPattern(regex) recognizes the regexes that are really char classes (one literal char,
+   "c+", "\\s", "\\s+") and scans them the same way; other regexes are compiled once through
+   PatternCache;
+ - split() is lazy: tokens are cut only when the Iterable / Stream is consumed, so
+   findFirst() or limit() on a 1 MB line reads only the first few chars.
+
+ Options (each returns a new immutable Splitter):
+ - omitEmptyStrings(): no "" tokens (for "a,,b" or leading / trailing separators)
+ - trimResults():      whitespace (Character.isWhitespace) removed from both ends of each token
+ - limit(n):           at most n tokens; the last one is the unsplit rest of the input
+
+ Differences from String.split: trailing empty tokens are kept (use omitEmptyStrings), and
+ patterns that can match the empty string are rejected.
+
+ splitToStream(input).parallel() splits the input itself: for char and char-class separators
+ the spliterator cuts its range at the first separator after the middle, so both halves start
+ at a token boundary and every thread scans only its own chars. Regex separators (a match can
+ depend on the text before it) and limit(n) stay sequential.
+
+ Immutable and thread-safe.
+*/
+public final class Splitter {
+
+    // separator kinds
+    private static final byte CHAR = 0;
+    private static final byte REGEX_WHITESPACE = 1;    // \s: [ \t\n\x0B\f\r]
+    private static final byte UNICODE_WHITESPACE = 2;  // Character.isWhitespace
+    private static final byte PATTERN = 3;
+
+    // bit c set for the chars of \s (all below 64)
+    private static final long REGEX_WHITESPACE_MASK =
+            1L << ' ' | 1L << '\t' | 1L << '\n' | 1L << 0x0B | 1L << '\f' | 1L << '\r';
+
+    // ranges smaller than this are not split further for parallel streams
+    private static final int MIN_SPLIT_CHARS = 1 << 12;
+
+    private final byte kind;
+    private final char separator;     // CHAR
+    private final boolean runs;       // a run of separator chars is one separator ("\\s+")
+    private final Pattern pattern;    // PATTERN
+    private final boolean omitEmptyStrings;
+    private final boolean trimResults;
+    private final int limit;
+
+    private Splitter(byte kind, char separator, boolean runs, Pattern pattern,
+                     boolean omitEmptyStrings, boolean trimResults, int limit) {
+        this.kind = kind;
+        this.separator = separator;
+        this.runs = runs;
+        this.pattern = pattern;
+        this.omitEmptyStrings = omitEmptyStrings;
+        this.trimResults = trimResults;
+        this.limit = limit;
+    }
+
+    private Splitter(byte kind, char separator, boolean runs, Pattern pattern) {
+        this(kind, separator, runs, pattern, false, false, Integer.MAX_VALUE);
+    }
+
+    // Every occurrence of the char separates: on(',') splits "a,,b" into [a, , b]
+    public static Splitter on(char separator) {
+        return new Splitter(CHAR, separator, false, null);
+    }
+
+    // Runs of whitespace (Character.isWhitespace) separate: "one  two\tthree" -> [one, two, three]
+    public static Splitter onWhitespace() {
+        return new Splitter(UNICODE_WHITESPACE, ' ', true, null);
+    }
+
+    // Regex separator; char-class regexes are scanned without the regex engine (see class comment)
+    public static Splitter onPattern(String regex) {
+        Splitter fast = charClassSplitter(regex);
+        return fast != null ? fast : onPattern(PatternCache.compile(regex));
+    }
+
+    public static Splitter onPattern(Pattern pattern) {
+        if (pattern.matcher("").matches()) {
+            throw new IllegalArgumentException("The pattern may not match the empty string: " + pattern);
+        }
+        return new Splitter(PATTERN, ' ', false, pattern);
+    }
+
+    // One literal char (the String.split fast-path rule), optionally followed by '+', or \s / \s+
+    private static Splitter charClassSplitter(String regex) {
+        boolean runs = regex.length() > 1 && regex.charAt(regex.length() - 1) == '+';
+        String single = runs ? regex.substring(0, regex.length() - 1) : regex;
+        if (single.equals("\\s")) {
+            return new Splitter(REGEX_WHITESPACE, ' ', runs, null);
+        }
+        char c;
+        if (single.length() == 1 && ".$|()[{^?*+\\".indexOf(single.charAt(0)) < 0) {
+            c = single.charAt(0);
+        } else if (single.length() == 2 && single.charAt(0) == '\\' && isQuotableAscii(single.charAt(1))) {
+            c = single.charAt(1);  // "\\." or "\\|"
+        } else {
+            return null;
+        }
+        if (Character.isSurrogate(c)) {
+            return null;
+        }
+        return new Splitter(CHAR, c, runs, null);
+    }
+
+    private static boolean isQuotableAscii(char c) {
+        return c < 128 && !(c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z');
+    }
+
+    public Splitter omitEmptyStrings() {
+        return new Splitter(kind, separator, runs, pattern, true, trimResults, limit);
+    }
+
+    public Splitter trimResults() {
+        return new Splitter(kind, separator, runs, pattern, omitEmptyStrings, true, limit);
+    }
+
+    public Splitter limit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        return new Splitter(kind, separator, runs, pattern, omitEmptyStrings, trimResults, limit);
+    }
+
+    // Lazy tokens: nothing is scanned until iteration; each iterator() starts over
+    public Iterable<String> split(CharSequence input) {
+        Objects.requireNonNull(input);
+        return () -> iterator(input);
+    }
+
+    public Iterator<String> iterator(CharSequence input) {
+        return Spliterators.iterator(spliterator(input));
+    }
+
+    // Sequential stream of tokens; call parallel() to split the input across threads
+    public Stream<String> splitToStream(CharSequence input) {
+        return StreamSupport.stream(spliterator(input), false);
+    }
+
+    public Spliterator<String> spliterator(CharSequence input) {
+        return new TokenSpliterator(input, 0, input.length(), limit);
+    }
+
+    // All tokens, unmodifiable
+    public List<String> splitToList(CharSequence input) {
+        List<String> tokens = new ArrayList<>();
+        spliterator(input).forEachRemaining(tokens::add);
+        return Collections.unmodifiableList(tokens);
+    }
+
+    private boolean isSeparator(char c) {
+        switch (kind) {
+            case CHAR:
+                return c == separator;
+            case REGEX_WHITESPACE:
+                return c < 64 && (REGEX_WHITESPACE_MASK >>> c & 1L) != 0;
+            default:
+                return WordTokenizer.isWhitespace(c);
+        }
+    }
+
+    /*
+     Tokens of input[from, to). The range always starts at a token start and ends at a token
+     end (the input end, or the start of a separator), so it yields the same tokens as the
+     sequential scan would for those chars.
+    */
+    private final class TokenSpliterator implements Spliterator<String> {
+        private final CharSequence input;
+        private int position;   // start of the next token
+        private final int end;
+        private boolean done;
+        private int remaining;  // tokens left before the limit
+        private int separatorEnd;
+        private Matcher matcher;
+
+        TokenSpliterator(CharSequence input, int from, int to, int remaining) {
+            this.input = input;
+            this.position = from;
+            this.end = to;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            while (!done) {
+                int start = position;
+                int tokenEnd = remaining == 1 ? -1 : findSeparator(start, start);
+                if (tokenEnd < 0) {
+                    tokenEnd = end;
+                    done = true;
+                } else {
+                    position = separatorEnd;
+                }
+                if (trimResults) {
+                    while (start < tokenEnd && Character.isWhitespace(input.charAt(start))) {
+                        start++;
+                    }
+                    while (tokenEnd > start && Character.isWhitespace(input.charAt(tokenEnd - 1))) {
+                        tokenEnd--;
+                    }
+                }
+                if (omitEmptyStrings && start == tokenEnd) {
+                    continue;
+                }
+                if (remaining != Integer.MAX_VALUE) {
+                    remaining--;
+                }
+                action.accept(input.subSequence(start, tokenEnd).toString());
+                return true;
+            }
+            return false;
+        }
+
+        // Start of the first separator at or after searchFrom (its end in separatorEnd), -1 if none
+        private int findSeparator(int tokenStart, int searchFrom) {
+            if (kind == PATTERN) {
+                return findMatch(tokenStart, searchFrom);
+            }
+            int i = searchFrom;
+            if (kind == CHAR && !runs && input instanceof String) {
+                i = ((String) input).indexOf(separator, i);  // stops at end: the range ends at a separator
+                if (i < 0 || i >= end) {
+                    return -1;
+                }
+            } else {
+                while (i < end && !isSeparator(input.charAt(i))) {
+                    i++;
+                }
+                if (i == end) {
+                    return -1;
+                }
+            }
+            int j = i + 1;
+            if (runs) {
+                while (j < end && isSeparator(input.charAt(j))) {
+                    j++;
+                }
+            }
+            separatorEnd = j;
+            return i;
+        }
+
+        private int findMatch(int tokenStart, int searchFrom) {
+            if (matcher == null) {
+                matcher = pattern.matcher(input).useTransparentBounds(true).useAnchoringBounds(false);
+            }
+            for (int from = searchFrom; from <= end; from++) {
+                if (!matcher.region(from, end).find()) {
+                    return -1;
+                }
+                if (matcher.end() > tokenStart) {  // an empty match at the token start separates nothing
+                    separatorEnd = matcher.end();
+                    return matcher.start();
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            if (kind == PATTERN || limit != Integer.MAX_VALUE || done || end - position < MIN_SPLIT_CHARS) {
+                return null;
+            }
+            int middle = position + (end - position) / 2;
+            int separatorStart = findSeparator(middle, middle);
+            if (separatorStart < 0) {
+                return null;
+            }
+            if (runs) {  // the run may have started before the middle
+                while (separatorStart > position && isSeparator(input.charAt(separatorStart - 1))) {
+                    separatorStart--;
+                }
+            }
+            Spliterator<String> prefix = new TokenSpliterator(input, position, separatorStart, remaining);
+            position = separatorEnd;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : end - position + 1;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
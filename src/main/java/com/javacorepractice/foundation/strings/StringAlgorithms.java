@@ -55,6 +55,7 @@ public class StringAlgorithms {
     }
 
     // 3) Reverse words manually using concatenation, O(n²)
+    // For large inputs without split() and substrings see WordTokenizer and WordReverser
     public void reverseWordsManual(String str) {
         System.out.println("Method: reverseWordsManual");
         if (isNotEmpty(str)) {
@@ -125,6 +126,7 @@ public class StringAlgorithms {
     }
 
     // 7) Time: O(n) — single pass; Space: O(1) for ASCII (boolean[256])
+    // Works only for chars 0..255; for any Unicode text see CodePointAlgorithms
     public void removeDuplicateChars(String str) {
         System.out.println("Method: removeDuplicateChars");
         if (isNotEmpty(str)) {
@@ -166,6 +168,8 @@ public class StringAlgorithms {
 
     // 9) Naive substring search — all matches, including overlapping
     // O(n*m) Note: overlapping matches may cause extra m*k comparisons
+    // For large or streamed inputs and many patterns at once see strings.search
+    // (KmpMatcher, HorspoolMatcher, AhoCorasickMatcher)
     public void indexOfNaiveAll(String str, String pattern) {
         if (isNotEmpty(str) && isNotEmpty(pattern)) {
             int strLength = str.length(); // n
@@ -7,6 +7,9 @@ import java.util.StringJoiner;
 
 public class StringBasics {
 
+    // built once; splits on runs of Character.isWhitespace chars, without the regex engine
+    private static final Splitter WHITESPACE_SPLITTER = Splitter.onWhitespace();
+
     StringAlgorithms stringAlgorithms = new StringAlgorithms();
 
     public void runAll() {
@@ -94,6 +97,7 @@ String formatting comparison:
     StringBuffer: 3 ms
     StringJoiner: 5 ms
     StringJoiner (without String.valueOf): 3 ms
+    Timings with currentTimeMillis are rough (no warmup); the JMH version is ConcatBenchmark.
      */
     public void compareConcatPerformance() {
         System.out.println("Method: compareConcatPerformance");
@@ -145,12 +149,23 @@ String formatting comparison:
         }
         end = System.currentTimeMillis();
         System.out.println("StringJoiner (without String.valueOf): " + (end - start) + " ms");
+
+        // Rope: chunked, full chunks are never copied on growth; prepend is as cheap as append (O(k) for k chars)
+        start = System.currentTimeMillis();
+        Rope res6 = new Rope();
+        for (int i = 0; i < iterations; i++) {
+            res6.append(i);
+        }
+        res6.prepend("header:");
+        end = System.currentTimeMillis();
+        System.out.println("Rope: " + (end - start) + " ms, " + res6.chunkCount() + " chunks");
     }
 
 
     // Split examples (regex vs non-regex) — O(n)
     // Split examples — both calls use regex under the hood.
     // Demonstrates pitfall: split(" ") keeps empty tokens on multiple spaces
+    // Reusable, lazy version without regex: Splitter.on(' ') / Splitter.onWhitespace()
     public void splitBySpace(String str) {
         System.out.println("Method: splitBySpace");
         if (stringAlgorithms.isNotEmpty(str)) {
@@ -168,6 +183,8 @@ String formatting comparison:
             String[] arr = str.split("\\s+");
             System.out.println("After split with regex: " + Arrays.toString(arr));
             // After split with regex: [one, two, three]
+            System.out.println("After Splitter.onWhitespace: " + WHITESPACE_SPLITTER.splitToList(str));
+            // After Splitter.onWhitespace: [one, two, three]
         }
     }
 
@@ -175,15 +192,17 @@ String formatting comparison:
     public void cleanText(String str) {
         System.out.println("Method: cleanText");
         System.out.println("String before changes: " + str);
-        String res = str.trim()
-                .replaceAll("\\s+", " ")
-                .replaceAll("\\p{Punct}", "");
+        String res = TextNormalizer.CLEAN_TEXT.normalize(str);
         /*
+        Same result as the chain
+            str.trim().replaceAll("\\s+", " ").replaceAll("\\p{Punct}", "")
         trim()  removes leading and trailing whitespace from the string 's'
         .replaceAll("\\s+", " ") replaces all sequences of one or more whitespace characters
         (spaces, tabs, newlines) with a single space
         .replaceAll("\\p{Punct}", "") removes all punctuation characters
-        (anything that matches the Unicode punctuation class)
+        (ASCII punctuation: !"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~)
+        but the chain compiles two Patterns and copies the string three times;
+        TextNormalizer does all steps in one pass (see TextNormalizerBenchmark)
          */
         System.out.println("String after changes: " + res);
     }
@@ -194,12 +213,15 @@ String formatting comparison:
         System.out.println("Before toLowerCase: " + str);
         String res = str.toLowerCase(Locale.ENGLISH);
         System.out.println("After toLowerCase: " + res);
+        // delegates to String.toLowerCase outside tr/az; same instance back when nothing changes
+        System.out.println("CaseMapping: " + CaseMapping.toLowerCase(str, Locale.ENGLISH));
     }
 
+    // Turkish: 'I' -> dotless 'ı', 'İ' -> 'i'; the Locale is a cached constant (not new Locale("tr") per call)
     public void toLowerTr(String str) {
         System.out.println("Method: toLowerTr");
         System.out.println("Before toLowerCase: " + str);
-        String res = str.toLowerCase(new Locale("tr"));
+        String res = CaseMapping.toLowerCase(str, CaseMapping.TURKISH);
         System.out.println("After toLowerCase: " + res);
     }
 
@@ -212,5 +234,9 @@ String formatting comparison:
         boolean result = normA.equalsIgnoreCase(normB);
         System.out.println("After removing accents: [" + normA + "] vs [" + normB + "]");
         System.out.println("Equal ignoring accents: " + result); // true
+
+        // Same answer with a lookup table per char, no new strings, stops at the first mismatch
+        System.out.println("AccentFolding: " + AccentFolding.equalsIgnoreAccents(a, b)
+                + ", folded key: " + AccentFolding.fold(a)); // true, jalapeno
     }
 }
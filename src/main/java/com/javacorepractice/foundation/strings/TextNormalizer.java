@@ -0,0 +1,256 @@
+package com.javacorepractice.foundation.strings;
+
+/*
+ Text cleaning in one pass — replaces chains like the one in StringBasics.cleanText:
+
+     str.trim().replaceAll("\\s+", " ").replaceAll("\\p{Punct}", "")
+
+ Every replaceAll compiles its Pattern again and copies the whole string, so the chain reads
+ the text three times and builds three new strings. Here the steps are flags of one immutable
+ normalizer, and normalize() classifies each char once (one table lookup for ASCII) and writes
+ the result into a caller-owned StringBuilder that can be reused for every record.
+
+ Steps (any combination, applied in this logical order):
+ - removeAccents:       "é" -> "e" (canonical decomposition minus combining marks, like
+                        Normalizer NFD + replaceAll("\\p{M}+", ""); table lookup, see AccentFolding)
+ - lowerCase:           per code point, locale-independent (Character.toLowerCase)
+ - stripPunctuation:    drops punctuation (ASCII \p{Punct} + Unicode P* categories)
+ - collapseWhitespace:  each whitespace run -> one ' '
+ - trim:                no whitespace at the start or end of the result
+ By default whitespace is Character.isWhitespace, and punctuation does not split whitespace
+ runs ("a , b" -> "a b").
+
+ asciiClasses() switches to the exact character classes of the String / regex chain:
+ trim() removes chars <= ' ' from the input, \s is [ \t\n\x0B\f\r], \p{Punct} is ASCII only,
+ and punctuation is removed after collapsing ("a , b" -> "a  b"). CLEAN_TEXT is that chain.
+
+ normalize(String) returns the same instance when nothing changes (no copy).
+ Immutable and thread-safe; the output buffer belongs to the caller.
+*/
+public final class TextNormalizer {
+
+    // cleanText: trim() + replaceAll("\\s+", " ") + replaceAll("\\p{Punct}", ""), same output
+    public static final TextNormalizer CLEAN_TEXT = builder()
+            .asciiClasses()
+            .trim()
+            .collapseWhitespace()
+            .stripPunctuation()
+            .build();
+
+    private static final byte WHITESPACE = 1;
+    private static final byte PUNCTUATION = 2;
+    private static final String ASCII_PUNCTUATION = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+    private static final String REGEX_WHITESPACE = " \t\n\u000B\f\r";
+
+    private final boolean trim;
+    private final boolean collapseWhitespace;
+    private final boolean stripPunctuation;
+    private final boolean lowerCase;
+    private final boolean removeAccents;
+    private final boolean asciiClasses;
+    private final byte[] asciiTable = new byte[128];
+
+    private TextNormalizer(Builder builder) {
+        this.trim = builder.trim;
+        this.collapseWhitespace = builder.collapseWhitespace;
+        this.stripPunctuation = builder.stripPunctuation;
+        this.lowerCase = builder.lowerCase;
+        this.removeAccents = builder.removeAccents;
+        this.asciiClasses = builder.asciiClasses;
+        for (char c = 0; c < 128; c++) {
+            boolean whitespace = asciiClasses ? REGEX_WHITESPACE.indexOf(c) >= 0 : WordTokenizer.isWhitespace(c);
+            if (whitespace && (trim || collapseWhitespace)) {
+                asciiTable[c] = WHITESPACE;
+            } else if (stripPunctuation && ASCII_PUNCTUATION.indexOf(c) >= 0) {
+                asciiTable[c] = PUNCTUATION;
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Result as a String; the input itself if nothing changed
+    public String normalize(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        return normalizeInto(text, out) ? out.toString() : text;
+    }
+
+    // Appends the normalized text to out and returns out (clear it with setLength(0) to reuse)
+    public StringBuilder normalize(CharSequence text, StringBuilder out) {
+        normalizeInto(text, out);
+        return out;
+    }
+
+    // Returns true if the appended text differs from the input
+    private boolean normalizeInto(CharSequence text, StringBuilder out) {
+        int start = 0;
+        int end = text.length();
+        if (trim && asciiClasses) {  // String.trim on the input, before everything else
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+        }
+        boolean trimOutput = trim && !asciiClasses;
+        boolean changed = start > 0 || end < text.length();
+        int base = out.length();
+        int contentEnd = base;    // out length after the last char that is not whitespace
+        boolean inSpace = false;  // the last appended char is a collapsed whitespace run
+        byte[] table = asciiTable;
+        for (int i = start; i < end; ) {
+            char c = text.charAt(i++);
+            int codePoint = c;
+            byte type;
+            if (c < 128) {
+                type = table[c];
+            } else {
+                if (Character.isHighSurrogate(c) && i < end && Character.isLowSurrogate(text.charAt(i))) {
+                    codePoint = Character.toCodePoint(c, text.charAt(i++));
+                }
+                type = classify(codePoint);
+            }
+            if (type == WHITESPACE) {
+                if (trimOutput && out.length() == base || collapseWhitespace && inSpace) {
+                    changed = true;
+                } else if (collapseWhitespace) {
+                    changed |= c != ' ';
+                    out.append(' ');
+                    inSpace = true;
+                } else {
+                    out.append(c);
+                }
+                continue;
+            }
+            if (type == PUNCTUATION) {
+                changed = true;
+                if (asciiClasses) {  // the regex chain removes punctuation after collapsing
+                    inSpace = false;
+                }
+                continue;
+            }
+            if (c < 128) {
+                if (lowerCase && c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                    changed = true;
+                }
+                out.append(c);
+            } else {
+                int before = out.length();
+                changed |= appendFolded(codePoint, out);
+                if (out.length() == before) {
+                    continue;  // a combining mark was removed
+                }
+            }
+            inSpace = false;
+            contentEnd = out.length();
+        }
+        if (trimOutput && out.length() > contentEnd) {
+            out.setLength(contentEnd);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private byte classify(int codePoint) {
+        if (asciiClasses) {
+            return 0;  // the regex classes are ASCII only
+        }
+        if ((trim || collapseWhitespace) && Character.isWhitespace(codePoint)) {
+            return WHITESPACE;
+        }
+        if (stripPunctuation && isPunctuation(codePoint)) {
+            return PUNCTUATION;
+        }
+        return 0;
+    }
+
+    // Appends the code point after accent removal and lower-casing; true if it was changed
+    private boolean appendFolded(int codePoint, StringBuilder out) {
+        if (!removeAccents) {
+            return appendLower(codePoint, out);
+        }
+        char stripped = codePoint <= Character.MAX_VALUE ? AccentFolding.strip((char) codePoint) : AccentFolding.SLOW;
+        if (stripped == AccentFolding.MARK) {
+            return true;
+        }
+        if (stripped != AccentFolding.SLOW) {
+            return appendLower(stripped, out) || stripped != codePoint;
+        }
+        int before = out.length();
+        AccentFolding.decompose(codePoint, false, part -> appendLower(part, out));
+        return out.length() - before != Character.charCount(codePoint) || out.codePointAt(before) != codePoint;
+    }
+
+    private boolean appendLower(int codePoint, StringBuilder out) {
+        int mapped = lowerCase ? Character.toLowerCase(codePoint) : codePoint;
+        out.appendCodePoint(mapped);
+        return mapped != codePoint;
+    }
+
+    // \p{P}: the seven Unicode punctuation categories
+    static boolean isPunctuation(int codePoint) {
+        switch (Character.getType(codePoint)) {
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public static final class Builder {
+        private boolean trim;
+        private boolean collapseWhitespace;
+        private boolean stripPunctuation;
+        private boolean lowerCase;
+        private boolean removeAccents;
+        private boolean asciiClasses;
+
+        private Builder() {
+        }
+
+        public Builder trim() {
+            trim = true;
+            return this;
+        }
+
+        public Builder collapseWhitespace() {
+            collapseWhitespace = true;
+            return this;
+        }
+
+        public Builder stripPunctuation() {
+            stripPunctuation = true;
+            return this;
+        }
+
+        public Builder lowerCase() {
+            lowerCase = true;
+            return this;
+        }
+
+        public Builder removeAccents() {
+            removeAccents = true;
+            return this;
+        }
+
+        // The character classes of String.trim and the regexes \s / \p{Punct} (see class comment)
+        public Builder asciiClasses() {
+            asciiClasses = true;
+            return this;
+        }
+
+        public TextNormalizer build() {
+            return new TextNormalizer(this);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.javacorepractice.foundation.strings;
+
+/*
+ Reverses the order of words in place over a char[]:
+ 1) reverse the whole range      "one two  three" -> "eerht  owt eno"
+ 2) reverse every word back      "eerht  owt eno" -> "three  two one"
+    (whitespace runs are reversed back too, so "\t " stays "\t ")
+ No String[] from split, no substrings, no concatenation (reverseWordsManual is O(n²)):
+ O(n) time, O(1) extra memory — usable for megabyte-sized buffers.
+
+ Whitespace.PRESERVE keeps every whitespace run unchanged, only its position moves;
+ Whitespace.COLLAPSE first compacts the range in place: trims it and turns every
+ whitespace run into one ' ' — the result is then shorter than the input.
+ Surrogate pairs stay intact: chars of a word are reversed twice.
+*/
+public final class WordReverser {
+
+    public enum Whitespace {
+        PRESERVE,
+        COLLAPSE
+    }
+
+    private WordReverser() {
+    }
+
+    // Reverses words in buf[from, to); returns the new end of the text (to for PRESERVE)
+    public static int reverseWords(char[] buf, int from, int to, Whitespace mode) {
+        if (mode == Whitespace.COLLAPSE) {
+            to = collapseWhitespace(buf, from, to);
+        }
+        reverse(buf, from, to);
+        int i = from;
+        while (i < to) {
+            int start = i;
+            while (i < to && WordTokenizer.isWhitespace(buf[i])) {
+                i++;
+            }
+            // a mixed run like "\t " must not come out as " \t"
+            if (i - start > 1) {
+                reverse(buf, start, i);
+            }
+            start = i;
+            while (i < to && !WordTokenizer.isWhitespace(buf[i])) {
+                i++;
+            }
+            reverse(buf, start, i);
+        }
+        return to;
+    }
+
+    // Convenience for Strings: one char[] and one String are allocated
+    public static String reverseWords(String str, Whitespace mode) {
+        char[] buf = str.toCharArray();
+        int end = reverseWords(buf, 0, buf.length, mode);
+        return new String(buf, 0, end);
+    }
+
+    // Trims buf[from, to) and replaces whitespace runs with one ' '; returns the new end
+    static int collapseWhitespace(char[] buf, int from, int to) {
+        int write = from;
+        boolean pendingSpace = false;
+        for (int i = from; i < to; i++) {
+            char c = buf[i];
+            if (WordTokenizer.isWhitespace(c)) {
+                pendingSpace = write > from;
+            } else {
+                if (pendingSpace) {
+                    buf[write++] = ' ';
+                    pendingSpace = false;
+                }
+                buf[write++] = c;
+            }
+        }
+        return write;
+    }
+
+    // Reverses buf[from, to)
+    static void reverse(char[] buf, int from, int to) {
+        int left = from;
+        int right = to - 1;
+        while (left < right) {
+            char temp = buf[left];
+            buf[left++] = buf[right];
+            buf[right--] = temp;
+        }
+    }
+}
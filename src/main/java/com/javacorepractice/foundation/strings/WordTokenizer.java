@@ -0,0 +1,116 @@
+package com.javacorepractice.foundation.strings;
+
+/*
+ Splits text into words without creating substrings or a String[].
+ A word is a maximal run of non-whitespace chars (Character.isWhitespace),
+ so "one  two\tthree" has 3 words and no empty tokens.
+ Every word is reported as a span (offset, length) into the original text.
+
+ Two styles:
+ - callback:  WordTokenizer.forEachWord(text, (offset, length) -> ...)
+ - cursor:    while (tokenizer.next()) { tokenizer.offset(); tokenizer.length(); }
+ The cursor object can be reset to a new text and reused.
+*/
+public final class WordTokenizer {
+
+    @FunctionalInterface
+    public interface SpanConsumer {
+        void accept(int offset, int length);
+    }
+
+    private CharSequence text;
+    private int end;
+    private int position;
+    private int wordStart;
+    private int wordEnd;
+
+    public WordTokenizer(CharSequence text) {
+        reset(text);
+    }
+
+    public WordTokenizer reset(CharSequence text) {
+        this.text = text;
+        this.end = text.length();
+        this.position = 0;
+        this.wordStart = 0;
+        this.wordEnd = 0;
+        return this;
+    }
+
+    // Moves to the next word; false when there are no more words
+    public boolean next() {
+        int i = position;
+        while (i < end && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        if (i == end) {
+            position = end;
+            return false;
+        }
+        wordStart = i;
+        while (i < end && !isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        wordEnd = i;
+        position = i;
+        return true;
+    }
+
+    public int offset() {
+        return wordStart;
+    }
+
+    public int length() {
+        return wordEnd - wordStart;
+    }
+
+    public int end() {
+        return wordEnd;
+    }
+
+    // Compares the current word with a string without extracting it
+    public boolean wordEquals(CharSequence other) {
+        int length = wordEnd - wordStart;
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(wordStart + i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Single pass over the text; returns the number of words
+    public static int forEachWord(CharSequence text, SpanConsumer consumer) {
+        int length = text.length();
+        int count = 0;
+        int i = 0;
+        while (i < length) {
+            while (i < length && isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            while (i < length && !isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            consumer.accept(start, i - start);
+            count++;
+        }
+        return count;
+    }
+
+    public static int countWords(CharSequence text) {
+        return forEachWord(text, (offset, length) -> {
+        });
+    }
+
+    // ' ' is by far the most common separator: check it before the general Unicode test
+    static boolean isWhitespace(char c) {
+        return c == ' ' || (c <= ' ' || c >= '\u0085') && Character.isWhitespace(c);
+    }
+}
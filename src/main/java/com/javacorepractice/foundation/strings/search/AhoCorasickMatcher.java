@@ -0,0 +1,190 @@
+package com.javacorepractice.foundation.strings.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/*
+ Aho–Corasick: all patterns at once in a single pass, O(n + number of matches).
+ Build: a trie of all patterns, then BFS computes for every node
+ - fail: the longest proper suffix of the node's string that is also a trie node
+ - outputLink: the nearest node on the fail chain where some pattern ends
+ Search: follow trie edges, fall back via fail links on a miss;
+ at every position report the node's patterns and the patterns on its output links
+ (this is how overlapping and nested matches, like "he" inside "she", are found).
+
+ After the build the trie is flattened: the edges of each node are stored
+ as a sorted slice of two flat arrays (chars and targets), so a step is a short
+ binary search over primitives instead of a HashMap lookup with boxed Characters.
+*/
+public class AhoCorasickMatcher implements PatternMatcher {
+
+    private static final int ROOT = 0;
+
+    private final int[] patternLengths;
+    // edges of node n: edgeChars/edgeTargets[edgeStart[n] .. edgeStart[n + 1])
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final int[] outputLink;
+    private final int[][] outputs; // patterns ending exactly at the node, null if none
+
+    public AhoCorasickMatcher(List<String> patterns) {
+        if (patterns.isEmpty()) {
+            throw new IllegalArgumentException("Pattern list is empty");
+        }
+        patternLengths = new int[patterns.size()];
+
+        // 1) trie with temporary maps
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<int[]> nodeOutputs = new ArrayList<>();
+        children.add(new HashMap<>());
+        nodeOutputs.add(null);
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Pattern " + p + " is empty");
+            }
+            patternLengths[p] = pattern.length();
+            int node = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = children.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(pattern.charAt(i), next);
+                    children.add(new HashMap<>());
+                    nodeOutputs.add(null);
+                }
+                node = next;
+            }
+            int[] existing = nodeOutputs.get(node);
+            int[] updated = existing == null ? new int[1] : Arrays.copyOf(existing, existing.length + 1);
+            updated[updated.length - 1] = p;
+            nodeOutputs.set(node, updated);
+        }
+
+        // 2) flatten edges, sorted by char
+        int nodes = children.size();
+        edgeStart = new int[nodes + 1];
+        for (int n = 0; n < nodes; n++) {
+            edgeStart[n + 1] = edgeStart[n] + children.get(n).size();
+        }
+        edgeChars = new char[edgeStart[nodes]];
+        edgeTargets = new int[edgeStart[nodes]];
+        for (int n = 0; n < nodes; n++) {
+            Character[] keys = children.get(n).keySet().toArray(new Character[0]);
+            Arrays.sort(keys);
+            int e = edgeStart[n];
+            for (Character key : keys) {
+                edgeChars[e] = key;
+                edgeTargets[e] = children.get(n).get(key);
+                e++;
+            }
+        }
+        outputs = nodeOutputs.toArray(new int[0][]);
+
+        // 3) fail and output links in BFS order (parents before children)
+        fail = new int[nodes];
+        outputLink = new int[nodes];
+        Arrays.fill(outputLink, -1);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            queue.add(edgeTargets[e]); // depth 1: fail to root
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                int child = edgeTargets[e];
+                char c = edgeChars[e];
+                int f = fail[node];
+                int target = edge(f, c);
+                while (target < 0 && f != ROOT) {
+                    f = fail[f];
+                    target = edge(f, c);
+                }
+                fail[child] = target < 0 ? ROOT : target;
+                int childFail = fail[child];
+                outputLink[child] = outputs[childFail] != null ? childFail : outputLink[childFail];
+                queue.add(child);
+            }
+        }
+    }
+
+    public AhoCorasickMatcher(String... patterns) {
+        this(Arrays.asList(patterns));
+    }
+
+    public int patternCount() {
+        return patternLengths.length;
+    }
+
+    // Target of the edge labeled c, or -1
+    private int edge(int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public MatchSession newSession(MatchListener listener) {
+        return new Session(listener);
+    }
+
+    private final class Session implements MatchSession {
+        private final MatchListener listener;
+        private long position;
+        private int state = ROOT;
+
+        Session(MatchListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void feed(char[] chunk, int offset, int length) {
+            int node = state;
+            int end = offset + length;
+            for (int i = offset; i < end; i++) {
+                char c = chunk[i];
+                int next = edge(node, c);
+                while (next < 0 && node != ROOT) {
+                    node = fail[node];
+                    next = edge(node, c);
+                }
+                node = next < 0 ? ROOT : next;
+
+                // report everything that ends at this char
+                long endPosition = position + (i - offset);
+                int out = outputs[node] != null ? node : outputLink[node];
+                while (out >= 0) {
+                    for (int p : outputs[out]) {
+                        listener.onMatch(endPosition - patternLengths[p] + 1, p);
+                    }
+                    out = outputLink[out];
+                }
+            }
+            state = node;
+            position += length;
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.javacorepractice.foundation.strings.search;
+
+import java.util.Arrays;
+
+/*
+ Boyer–Moore–Horspool: compares the window right-to-left and, on mismatch,
+ shifts by the distance of the window's last char to its last occurrence in the pattern.
+ Average case is sublinear (about n / m comparisons for random text), worst case O(n * m).
+
+ The shift table has 256 entries indexed by the low byte of the char;
+ chars that share a low byte keep the smallest shift, which is always safe
+ (a smaller shift never skips a match) and keeps the table at 1 KB for any alphabet.
+
+ For streaming, the session keeps the last m - 1 chars of the previous chunk,
+ so a match that crosses a chunk border is still seen as one window.
+*/
+public class HorspoolMatcher implements PatternMatcher {
+
+    private final char[] pattern;
+    private final int[] shift = new int[256];
+
+    public HorspoolMatcher(String pattern) {
+        if (pattern.isEmpty()) {
+            throw new IllegalArgumentException("Pattern is empty");
+        }
+        this.pattern = pattern.toCharArray();
+        int m = this.pattern.length;
+        Arrays.fill(shift, m);
+        for (int i = 0; i < m - 1; i++) {
+            shift[this.pattern[i] & 0xFF] = m - 1 - i;
+        }
+    }
+
+    @Override
+    public MatchSession newSession(MatchListener listener) {
+        return new Session(listener);
+    }
+
+    private final class Session implements MatchSession {
+        private final MatchListener listener;
+        private long position;
+        private char[] window = new char[0];
+        private int carry; // chars kept from the previous chunk (at most m - 1)
+
+        Session(MatchListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void feed(char[] chunk, int offset, int length) {
+            int m = pattern.length;
+            char[] text;
+            int from;
+            int total;
+            if (carry == 0) {
+                text = chunk; // nothing to prepend: search the chunk directly, no copy
+                from = offset;
+                total = length;
+            } else {
+                total = carry + length;
+                if (window.length < total) {
+                    char[] grown = new char[Math.max(total, window.length * 2)];
+                    System.arraycopy(window, 0, grown, 0, carry);
+                    window = grown;
+                }
+                System.arraycopy(chunk, offset, window, carry, length);
+                text = window;
+                from = 0;
+            }
+            long base = position - carry; // absolute position of text[from]
+            scan(text, from, from + total, base);
+
+            // keep the tail that may still start a match
+            int keep = Math.min(m - 1, total);
+            if (window.length < keep) {
+                window = new char[Math.max(keep, 16)];
+            }
+            System.arraycopy(text, from + total - keep, window, 0, keep);
+            carry = keep;
+            position += length;
+        }
+
+        private void scan(char[] text, int from, int to, long base) {
+            char[] p = pattern;
+            int m = p.length;
+            int last = m - 1;
+            int i = from;
+            while (i + last < to) {
+                char c = text[i + last];
+                if (c == p[last]) {
+                    int j = last - 1;
+                    while (j >= 0 && text[i + j] == p[j]) {
+                        j--;
+                    }
+                    if (j < 0) {
+                        listener.onMatch(base + (i - from), 0);
+                    }
+                }
+                i += shift[c & 0xFF];
+            }
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+    }
+}
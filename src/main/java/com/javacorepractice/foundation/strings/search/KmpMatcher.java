@@ -0,0 +1,80 @@
+package com.javacorepractice.foundation.strings.search;
+
+/*
+ Knuth–Morris–Pratt: O(n + m) time, O(m) memory.
+ failure[j] = length of the longest proper prefix of pattern[0..j] that is also its suffix.
+ After a mismatch (or a full match) the pattern shifts by that table instead of
+ going back in the text — every input char is read exactly once, so it streams naturally.
+*/
+public class KmpMatcher implements PatternMatcher {
+
+    private final char[] pattern;
+    private final int[] failure;
+
+    public KmpMatcher(String pattern) {
+        if (pattern.isEmpty()) {
+            throw new IllegalArgumentException("Pattern is empty");
+        }
+        this.pattern = pattern.toCharArray();
+        this.failure = buildFailure(this.pattern);
+    }
+
+    static int[] buildFailure(char[] pattern) {
+        int[] failure = new int[pattern.length];
+        int k = 0;
+        for (int i = 1; i < pattern.length; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) {
+                k = failure[k - 1];
+            }
+            if (pattern[i] == pattern[k]) {
+                k++;
+            }
+            failure[i] = k;
+        }
+        return failure;
+    }
+
+    @Override
+    public MatchSession newSession(MatchListener listener) {
+        return new Session(listener);
+    }
+
+    private final class Session implements MatchSession {
+        private final MatchListener listener;
+        private long position;
+        private int matched; // chars of the pattern matched so far
+
+        Session(MatchListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void feed(char[] chunk, int offset, int length) {
+            char[] p = pattern;
+            int[] f = failure;
+            int m = p.length;
+            int j = matched;
+            int end = offset + length;
+            for (int i = offset; i < end; i++) {
+                char c = chunk[i];
+                while (j > 0 && c != p[j]) {
+                    j = f[j - 1];
+                }
+                if (c == p[j]) {
+                    j++;
+                    if (j == m) {
+                        listener.onMatch(position + (i - offset) - m + 1, 0);
+                        j = f[m - 1]; // keep the overlap, e.g. "aaa" in "aaaaa" -> 0, 1, 2
+                    }
+                }
+            }
+            matched = j;
+            position += length;
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.javacorepractice.foundation.strings.search;
+
+// Receives every match, including overlapping ones, in the order the input is scanned.
+// position is the absolute char offset of the match start from the beginning of the input
+// (long — streamed inputs can be larger than 2^31 chars);
+// patternIndex is the index in the pattern list (always 0 for single-pattern matchers).
+@FunctionalInterface
+public interface MatchListener {
+
+    void onMatch(long position, int patternIndex);
+}
@@ -0,0 +1,15 @@
+package com.javacorepractice.foundation.strings.search;
+
+/*
+ Streaming state of one search: the input is fed chunk by chunk,
+ matches that cross chunk borders are still found.
+ A session keeps only the matcher state (and at most pattern-length chars),
+ never the whole input. Not thread-safe: one session per input.
+*/
+public interface MatchSession {
+
+    void feed(char[] chunk, int offset, int length);
+
+    // Number of chars consumed so far
+    long position();
+}
@@ -0,0 +1,84 @@
+package com.javacorepractice.foundation.strings.search;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/*
+ Substring search engine. Implementations:
+ - KmpMatcher         one pattern, O(n + m), never goes back in the input
+ - HorspoolMatcher    one pattern, sublinear on average (skips up to m chars per step)
+ - AhoCorasickMatcher many patterns in one pass, O(n + number of matches)
+ A matcher is immutable and thread-safe once built; the per-input state lives in MatchSession.
+ Every source type is searched through a session, so all of them stream in fixed-size chunks.
+*/
+public interface PatternMatcher {
+
+    int CHUNK_SIZE = 8192;
+
+    MatchSession newSession(MatchListener listener);
+
+    default void search(char[] text, int from, int to, MatchListener listener) {
+        newSession(listener).feed(text, from, to - from);
+    }
+
+    default void search(char[] text, MatchListener listener) {
+        search(text, 0, text.length, listener);
+    }
+
+    default void search(CharSequence text, MatchListener listener) {
+        MatchSession session = newSession(listener);
+        int length = text.length();
+        char[] chunk = new char[Math.min(CHUNK_SIZE, Math.max(length, 1))];
+        for (int start = 0; start < length; start += chunk.length) {
+            int end = Math.min(start + chunk.length, length);
+            if (text instanceof String) {
+                ((String) text).getChars(start, end, chunk, 0);
+            } else {
+                for (int i = start; i < end; i++) {
+                    chunk[i - start] = text.charAt(i);
+                }
+            }
+            session.feed(chunk, 0, end - start);
+        }
+    }
+
+    // Reads until end of stream; the reader is not closed
+    default void search(Reader reader, MatchListener listener) throws IOException {
+        MatchSession session = newSession(listener);
+        char[] chunk = new char[CHUNK_SIZE];
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            session.feed(chunk, 0, read);
+        }
+    }
+
+    // Decodes the remaining bytes chunk by chunk; positions are char offsets in the decoded text
+    default void search(ByteBuffer bytes, Charset charset, MatchListener listener) throws CharacterCodingException {
+        MatchSession session = newSession(listener);
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chunk = CharBuffer.allocate(CHUNK_SIZE);
+        boolean flushed = false;
+        while (!flushed) {
+            CoderResult result = decoder.decode(bytes, chunk, true);
+            if (!result.isOverflow()) {
+                result = decoder.flush(chunk);
+                flushed = !result.isOverflow();
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            chunk.flip();
+            session.feed(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            chunk.clear();
+        }
+    }
+}
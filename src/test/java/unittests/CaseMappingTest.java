@@ -0,0 +1,138 @@
+package unittests;
+
+import com.javacorepractice.foundation.strings.CaseMapping;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class CaseMappingTest {
+
+    private static final Locale[] LOCALES = {
+            Locale.ROOT, Locale.ENGLISH, Locale.GERMAN, CaseMapping.TURKISH, CaseMapping.AZERBAIJANI,
+            new Locale("tr", "TR"), Locale.forLanguageTag("lt")};
+
+    // Turkish: dotted and dotless i are two different letters
+    @Test
+    public void testTurkishLowerCase() {
+        Assert.assertEquals(CaseMapping.toLowerCase("İstanbul", CaseMapping.TURKISH), "istanbul");
+        Assert.assertEquals(CaseMapping.toLowerCase("ISPARTA", CaseMapping.TURKISH), "ısparta");
+        Assert.assertEquals(CaseMapping.toLowerCase("DİYARBAKIR", CaseMapping.TURKISH), "diyarbakır");
+        Assert.assertEquals(CaseMapping.toLowerCase("ISPARTA", CaseMapping.AZERBAIJANI), "ısparta");
+        Assert.assertEquals(CaseMapping.toLowerCase("ISPARTA", new Locale("tr", "TR")), "ısparta");
+    }
+
+    @Test
+    public void testTurkishUpperCase() {
+        Assert.assertEquals(CaseMapping.toUpperCase("istanbul", CaseMapping.TURKISH), "İSTANBUL");
+        Assert.assertEquals(CaseMapping.toUpperCase("ısparta", CaseMapping.TURKISH), "ISPARTA");
+        Assert.assertEquals(CaseMapping.toUpperCase("diyarbakır", CaseMapping.TURKISH), "DİYARBAKIR");
+    }
+
+    // Outside Turkish / Azerbaijani 'I' is the capital of the dotted 'i'
+    @Test
+    public void testEnglishDottedI() {
+        Assert.assertEquals(CaseMapping.toLowerCase("ISPARTA", Locale.ENGLISH), "isparta");
+        Assert.assertEquals(CaseMapping.toLowerCase("İstanbul", Locale.ENGLISH), "i̇stanbul");
+        Assert.assertEquals(CaseMapping.toUpperCase("istanbul", Locale.ENGLISH), "ISTANBUL");
+        Assert.assertEquals(CaseMapping.toUpperCase("ı", Locale.ENGLISH), "I");
+    }
+
+    @Test
+    public void testReturnsSameInstanceWhenUnchanged() {
+        String lower = "already lower case, café naïve 123";
+        Assert.assertSame(CaseMapping.toLowerCase(lower, Locale.ENGLISH), lower);
+        Assert.assertSame(CaseMapping.toLowerCase(lower, CaseMapping.TURKISH), lower);
+        String upper = "ALREADY UPPER CASE, CAFÉ 123";
+        Assert.assertSame(CaseMapping.toUpperCase(upper, Locale.ROOT), upper);
+        String empty = "";
+        Assert.assertSame(CaseMapping.toLowerCase(empty, Locale.ROOT), empty);
+    }
+
+    @Test
+    public void testLatin1SpecialCases() {
+        Assert.assertEquals(CaseMapping.toUpperCase("straße", Locale.GERMAN), "STRASSE");
+        Assert.assertEquals(CaseMapping.toUpperCase("ÿµ", Locale.ROOT), "ŸΜ");
+        Assert.assertEquals(CaseMapping.toLowerCase("À×Þ", Locale.ROOT), "à×þ");
+    }
+
+    // Random Latin-1, Turkish and Greek text: always the same result as String
+    @Test
+    public void testMatchesJdkOnRandomText() {
+        Random random = new Random(42);
+        String alphabet = "aAiIzZ ßàÀÿµ×÷İı̇ΣσÌÍJj";
+        for (int it = 0; it < 20_000; it++) {
+            char[] chars = new char[random.nextInt(12)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            String text = new String(chars);
+            for (Locale locale : LOCALES) {
+                Assert.assertEquals(CaseMapping.toLowerCase(text, locale), text.toLowerCase(locale),
+                        "lower case of [" + text + "] in " + locale);
+                Assert.assertEquals(CaseMapping.toUpperCase(text, locale), text.toUpperCase(locale),
+                        "upper case of [" + text + "] in " + locale);
+            }
+        }
+    }
+
+    @Test
+    public void testLowerCaseAllArrayInPlace() {
+        String[] values = randomWords(50_000);
+        String[] expected = new String[values.length];
+        int changed = 0;
+        for (int i = 0; i < values.length; i++) {
+            expected[i] = values[i] == null ? null : values[i].toLowerCase(CaseMapping.TURKISH);
+            if (expected[i] != null && !expected[i].equals(values[i])) {
+                changed++;
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assert.assertEquals(CaseMapping.toLowerCaseAll(values, CaseMapping.TURKISH, pool), changed);
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertEquals(values, expected);
+    }
+
+    @Test
+    public void testLowerCaseAllList() {
+        String[] words = randomWords(20_000);
+        List<String> expected = new ArrayList<>();
+        for (String word : words) {
+            expected.add(word == null ? null : word.toLowerCase(Locale.ENGLISH));
+        }
+        List<String> arrayList = new ArrayList<>(Arrays.asList(words));
+        List<String> linkedList = new LinkedList<>(Arrays.asList(words));
+        int changed = CaseMapping.toLowerCaseAll(arrayList, Locale.ENGLISH);
+        Assert.assertEquals(CaseMapping.toLowerCaseAll(linkedList, Locale.ENGLISH), changed);
+        Assert.assertEquals(arrayList, expected);
+        Assert.assertEquals(linkedList, expected);
+        Assert.assertEquals(CaseMapping.toLowerCaseAll(arrayList, Locale.ENGLISH), 0, "second pass changes nothing");
+    }
+
+    // Mixed-case words, some already lower case, some null
+    private static String[] randomWords(int count) {
+        Random random = new Random(7);
+        String letters = "abcIiXyzÇçÖöİı";
+        String[] words = new String[count];
+        for (int k = 0; k < count; k++) {
+            if (random.nextInt(50) == 0) {
+                continue;
+            }
+            char[] chars = new char[1 + random.nextInt(10)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = letters.charAt(random.nextInt(letters.length()));
+            }
+            words[k] = new String(chars);
+        }
+        return words;
+    }
+}